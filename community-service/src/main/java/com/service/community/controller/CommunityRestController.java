@@ -124,6 +124,14 @@ public class CommunityRestController {
 
     @GetMapping("/{id}/minimal")
     public ResponseEntity<CommunityMinimalDTO> getCommunityMinimalById(@PathVariable UUID id) {
-        return ResponseEntity.ok(communityService.getCommunityMinimalById(id));
+        // A 404 lets callers cache the id as unknown, a 500 would be taken for an outage
+        return communityService.getCommunityMinimalById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/minimal/batch")
+    public ResponseEntity<List<CommunityMinimalDTO>> getCommunitiesMinimalByIds(@RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(communityService.getCommunitiesMinimalByIds(ids));
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import com.service.community.dto.UpdateCommunityDTO;
 import com.service.community.entity.Community;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface IServiceCommunity {
@@ -39,5 +40,6 @@ public interface IServiceCommunity {
     Long getTotalMembersAcrossCommunities();
 
     // Minimal DTO for inter-service communication
-    CommunityMinimalDTO getCommunityMinimalById(UUID id);
+    Optional<CommunityMinimalDTO> getCommunityMinimalById(UUID id);
+    List<CommunityMinimalDTO> getCommunitiesMinimalByIds(List<UUID> ids);
 }
\ No newline at end of file
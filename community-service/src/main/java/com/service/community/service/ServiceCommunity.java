@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -214,8 +215,18 @@ public class ServiceCommunity implements IServiceCommunity {
     }
 
     @Override
-    public CommunityMinimalDTO getCommunityMinimalById(UUID id) {
-        Community community = getCommunityById(id);
+    public Optional<CommunityMinimalDTO> getCommunityMinimalById(UUID id) {
+        return communityRepository.findById(id).map(this::toMinimalDTO);
+    }
+
+    @Override
+    public List<CommunityMinimalDTO> getCommunitiesMinimalByIds(List<UUID> ids) {
+        return communityRepository.findAllById(ids).stream()
+                .map(this::toMinimalDTO)
+                .collect(Collectors.toList());
+    }
+
+    private CommunityMinimalDTO toMinimalDTO(Community community) {
         CommunityMinimalDTO dto = new CommunityMinimalDTO();
         dto.setId(community.getId());
         dto.setTitle(community.getTitle());
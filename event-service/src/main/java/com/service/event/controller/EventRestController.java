@@ -1,9 +1,15 @@
 package com.service.event.controller;
 
 import com.service.event.dto.event.EventDTO;
+import com.service.event.dto.event.EventLaunchStatusDTO;
 import com.service.event.dto.event.EventResponseDTO;
+import com.service.event.dto.event.EventSearchHitDTO;
+import com.service.event.dto.event.EventSearchResultDTO;
 import com.service.event.entity.Event;
 import com.service.event.enums.EventStatus;
+import com.service.event.service.EventLaunchService;
+import com.service.event.service.EventSearchFilter;
+import com.service.event.service.EventSearchResult;
 import com.service.event.service.IServiceEvent;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -26,6 +32,7 @@ import java.util.stream.Collectors;
 public class EventRestController {
 
     private final IServiceEvent serviceEvent;
+    private final EventLaunchService launchService;
     private final ModelMapper modelMapper;
 
     // CRUD Operations
@@ -170,14 +177,38 @@ public class EventRestController {
     // Search
     @GetMapping("/search")
     public ResponseEntity<List<EventResponseDTO>> searchEvents(
-            @RequestParam String keyword) {
-        List<Event> events = serviceEvent.searchEvents(keyword);
-        List<EventResponseDTO> responseDTOs = events.stream()
-                .map(event -> modelMapper.map(event, EventResponseDTO.class))
+            @RequestParam String keyword,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Boolean online,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        EventSearchResult result = serviceEvent.searchEvents(keyword,
+                new EventSearchFilter(startDate, endDate, online, category), page, size);
+        List<EventResponseDTO> responseDTOs = result.matches().stream()
+                .map(match -> modelMapper.map(match.event(), EventResponseDTO.class))
                 .collect(Collectors.toList());
         return ResponseEntity.ok(responseDTOs);
     }
 
+    @GetMapping("/search/ranked")
+    public ResponseEntity<EventSearchResultDTO> searchEventsRanked(
+            @RequestParam String keyword,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Boolean online,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        EventSearchResult result = serviceEvent.searchEvents(keyword,
+                new EventSearchFilter(startDate, endDate, online, category), page, size);
+        List<EventSearchHitDTO> items = result.matches().stream()
+                .map(match -> new EventSearchHitDTO(modelMapper.map(match.event(), EventResponseDTO.class), match.score()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(new EventSearchResultDTO(items, result.total(), page, size));
+    }
+
     // Date Range Filter
     @GetMapping("/date-range")
     public ResponseEntity<List<EventResponseDTO>> getEventsByDateRange(
@@ -238,6 +269,26 @@ public class EventRestController {
         return ResponseEntity.ok(responseDTO);
     }
 
+    // Launch Mode
+    @PostMapping("/{id}/launch")
+    public ResponseEntity<EventLaunchStatusDTO> openLaunch(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "false") boolean autoApprove) {
+        return ResponseEntity.ok(launchService.openLaunch(id, autoApprove));
+    }
+
+    @GetMapping("/{id}/launch")
+    public ResponseEntity<EventLaunchStatusDTO> getLaunchStatus(@PathVariable UUID id) {
+        return launchService.getLaunchStatus(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}/launch")
+    public ResponseEntity<EventLaunchStatusDTO> closeLaunch(@PathVariable UUID id) {
+        return ResponseEntity.ok(launchService.closeLaunch(id));
+    }
+
     // Statistics
     @GetMapping("/stats/total")
     public ResponseEntity<Long> getTotalEventsCount() {
@@ -2,16 +2,23 @@ package com.service.event.controller;
 
 import com.service.event.dto.eventSubscription.EventSubscriptionDTO;
 import com.service.event.dto.eventSubscription.EventSubscriptionResponseDTO;
+import com.service.event.dto.eventSubscription.SubscriptionTicketDTO;
+import com.service.event.dto.eventSubscription.WaitlistPromotionDTO;
 import com.service.event.entity.EventSubscription;
 import com.service.event.enums.SubscriptionStatus;
+import com.service.event.service.EventLaunchService;
 import com.service.event.service.IServiceEventSubscription;
+import com.service.event.service.SubscriptionIntakeService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -23,6 +30,8 @@ import java.util.stream.Collectors;
 public class EventSubscriptionRestController {
 
     private final IServiceEventSubscription subscriptionService;
+    private final EventLaunchService launchService;
+    private final SubscriptionIntakeService intakeService;
     private final ModelMapper modelMapper;
 
     @PostMapping
@@ -39,11 +48,31 @@ public class EventSubscriptionRestController {
             @RequestParam UUID eventId,
             @RequestParam UUID userId,
             @RequestParam UUID studentId) {
-        EventSubscription subscription = subscriptionService.subscribeToEvent(eventId, userId, studentId);
+        EventSubscription subscription = launchService.subscribe(eventId, userId, studentId);
         EventSubscriptionResponseDTO response = modelMapper.map(subscription, EventSubscriptionResponseDTO.class);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    // Asynchronous Intake
+    @PostMapping("/subscribe/async")
+    public ResponseEntity<SubscriptionTicketDTO> subscribeToEventAsync(
+            @RequestParam UUID eventId,
+            @RequestParam UUID userId,
+            @RequestParam UUID studentId,
+            @RequestParam(defaultValue = "false") boolean autoApprove) {
+        SubscriptionTicketDTO ticket = intakeService.accept(eventId, userId, studentId, autoApprove);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/event-subscriptions/tickets/" + ticket.getId()))
+                .body(ticket);
+    }
+
+    @GetMapping("/tickets/{ticketId}")
+    public DeferredResult<SubscriptionTicketDTO> getSubscriptionTicket(
+            @PathVariable UUID ticketId,
+            @RequestParam(defaultValue = "0") long waitSeconds) {
+        return intakeService.awaitTicket(ticketId, Duration.ofSeconds(waitSeconds));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<EventSubscriptionResponseDTO> getSubscriptionById(@PathVariable UUID id) {
         EventSubscription subscription = subscriptionService.getSubscriptionById(id);
@@ -148,6 +177,11 @@ public class EventSubscriptionRestController {
         return ResponseEntity.ok(stats);
     }
 
+    @PostMapping("/event/{eventId}/waitlist/promote")
+    public ResponseEntity<WaitlistPromotionDTO> promoteWaitlisted(@PathVariable UUID eventId) {
+        return ResponseEntity.ok(subscriptionService.promoteWaitlisted(eventId));
+    }
+
     @GetMapping("/user/{userId}/events")
     public ResponseEntity<List<EventSubscriptionResponseDTO>> getUserSubscriptions(@PathVariable UUID userId) {
         List<EventSubscription> subscriptions = subscriptionService.getSubscriptionsByUser(userId);
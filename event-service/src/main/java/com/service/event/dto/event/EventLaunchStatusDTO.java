@@ -0,0 +1,27 @@
+package com.service.event.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventLaunchStatusDTO {
+
+    private UUID eventId;
+    private boolean autoApprove;
+    private LocalDateTime openedAt;
+    private int remainingSeats;
+    private long admitted;
+    private long pending;
+    private long waitlisted;
+    private long rejected;
+    private int queued;
+    private long written;
+}
@@ -0,0 +1,15 @@
+package com.service.event.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSearchHitDTO {
+    private EventResponseDTO event;
+    private double score;
+}
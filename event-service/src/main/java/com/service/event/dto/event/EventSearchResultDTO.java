@@ -0,0 +1,19 @@
+package com.service.event.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSearchResultDTO {
+    private List<EventSearchHitDTO> items;
+    private long total;
+    private int page;
+    private int size;
+}
@@ -0,0 +1,27 @@
+package com.service.event.dto.eventSubscription;
+
+import com.service.event.enums.SubscriptionTicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubscriptionTicketDTO {
+
+    private UUID id;
+    private UUID eventId;
+    private UUID userId;
+    private UUID studentId;
+    private SubscriptionTicketStatus status;
+    private UUID subscriptionId;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,21 @@
+package com.service.event.dto.eventSubscription;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistPromotionDTO {
+
+    private UUID eventId;
+    private int promoted;
+    private long remaining;
+    private List<UUID> promotedSubscriptionIds;
+}
@@ -64,7 +64,8 @@ public class Event {
     @Column(name = "max_participants")
     private Integer maxParticipants;
 
-    @Column(name = "current_participants")
+    // Only written by EventSeatReservationService, with conditional updates
+    @Column(name = "current_participants", updatable = false)
     private Integer currentParticipants = 0;
 
     @Column(name = "registration_fee")
@@ -0,0 +1,68 @@
+package com.service.event.entity;
+
+import com.service.event.enums.SubscriptionTicketStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A subscription request accepted asynchronously, and what became of it.
+ */
+@Entity
+@Table(name = "subscription_tickets", schema = "event_schema")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubscriptionTicket {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator
+    @Column(columnDefinition = "uuid", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "event_id", columnDefinition = "uuid", nullable = false)
+    private UUID eventId;
+
+    @Column(name = "user_id", columnDefinition = "uuid", nullable = false)
+    private UUID userId;
+
+    @Column(name = "student_id", columnDefinition = "uuid", nullable = false)
+    private UUID studentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SubscriptionTicketStatus status = SubscriptionTicketStatus.QUEUED;
+
+    // Asked by the caller; never honoured for an event that requires approval
+    @Column(name = "auto_approve", nullable = false)
+    private Boolean autoApprove = false;
+
+    @Column(name = "subscription_id", columnDefinition = "uuid")
+    private UUID subscriptionId;
+
+    @Column(name = "message", length = 500)
+    private String message;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public void complete(SubscriptionTicketStatus status, UUID subscriptionId, String message) {
+        this.status = status;
+        this.subscriptionId = subscriptionId;
+        this.message = message;
+        this.processedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,19 @@
+package com.service.event.enums;
+
+public enum SeatReservationOutcome {
+    RESERVED("Place réservée"),
+    FULL("Complet"),
+    NOT_OPEN("Inscriptions fermées"),
+    REGISTRATION_CLOSED("Date limite dépassée"),
+    NOT_FOUND("Événement introuvable");
+
+    private final String displayName;
+
+    SeatReservationOutcome(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,23 @@
+package com.service.event.enums;
+
+public enum SubscriptionTicketStatus {
+    QUEUED("En file d'attente"),
+    PENDING("En attente"),
+    APPROVED("Approuvé"),
+    WAITLISTED("Liste d'attente"),
+    REJECTED("Rejeté");
+
+    private final String displayName;
+
+    SubscriptionTicketStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean isFinal() {
+        return this != QUEUED;
+    }
+}
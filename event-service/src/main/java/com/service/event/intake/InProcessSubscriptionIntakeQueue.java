@@ -0,0 +1,58 @@
+package com.service.event.intake;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Bounded in-memory queue, drained by a scheduled consumer. Requests lost on a crash still
+ * have their QUEUED ticket in the database and are requeued by the intake service.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event.intake.queue", havingValue = "in-process", matchIfMissing = true)
+public class InProcessSubscriptionIntakeQueue implements SubscriptionIntakeQueue {
+
+    private final SubscriptionBatchProcessor processor;
+    private final BlockingQueue<SubscriptionRequest> queue;
+    private final int batchSize;
+
+    public InProcessSubscriptionIntakeQueue(SubscriptionBatchProcessor processor,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${event.intake.capacity:10000}") int capacity,
+                                            @Value("${event.intake.batch-size:200}") int batchSize) {
+        this.processor = processor;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+
+        meterRegistry.gauge("event.intake.queued", queue, BlockingQueue::size);
+    }
+
+    @Override
+    public boolean offer(SubscriptionRequest request) {
+        return queue.offer(request);
+    }
+
+    @Scheduled(initialDelayString = "${event.intake.poll-interval:100ms}",
+            fixedDelayString = "${event.intake.poll-interval:100ms}")
+    public void drain() {
+        List<SubscriptionRequest> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                processor.process(batch);
+            } catch (RuntimeException e) {
+                log.error("Could not process {} subscription requests, they stay queued until requeued: {}",
+                        batch.size(), e.getMessage(), e);
+            }
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.service.event.intake;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka topic keyed by event id, so the requests of an event stay in order on one partition.
+ * Offsets are committed once a polled batch is processed: a batch that fails is polled again,
+ * and requests delivered twice are skipped by the processor.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event.intake.queue", havingValue = "kafka")
+public class KafkaSubscriptionIntakeQueue implements SubscriptionIntakeQueue, SmartLifecycle {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(5);
+
+    private final SubscriptionBatchProcessor processor;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final Duration sendTimeout;
+    private final Properties consumerProperties = new Properties();
+    private final KafkaProducer<String, String> producer;
+
+    private volatile boolean running;
+    private volatile KafkaConsumer<String, String> consumer;
+    private Thread consumerThread;
+
+    public KafkaSubscriptionIntakeQueue(SubscriptionBatchProcessor processor,
+                                        ObjectMapper objectMapper,
+                                        @Value("${event.intake.kafka.bootstrap-servers:localhost:9092}") String bootstrapServers,
+                                        @Value("${event.intake.kafka.topic:event-subscription-requests}") String topic,
+                                        @Value("${event.intake.kafka.group-id:event-service-intake}") String groupId,
+                                        @Value("${event.intake.kafka.send-timeout:5s}") Duration sendTimeout,
+                                        @Value("${event.intake.batch-size:200}") int batchSize) {
+        this.processor = processor;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+        this.sendTimeout = sendTimeout;
+
+        Properties producerProperties = new Properties();
+        producerProperties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        producerProperties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        producerProperties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        producerProperties.put(ProducerConfig.ACKS_CONFIG, "all");
+        producerProperties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        producerProperties.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        this.producer = new KafkaProducer<>(producerProperties);
+
+        consumerProperties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        consumerProperties.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        consumerProperties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        consumerProperties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize);
+    }
+
+    /* =======================
+       PRODUCER
+       ======================= */
+
+    @Override
+    public boolean offer(SubscriptionRequest request) {
+        try {
+            String value = objectMapper.writeValueAsString(request);
+            // Acknowledged by the brokers before the caller gets its ticket
+            producer.send(new ProducerRecord<>(topic, request.eventId().toString(), value))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("Could not publish subscription request {}: {}", request.ticketId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /* =======================
+       CONSUMER
+       ======================= */
+
+    @Override
+    public void start() {
+        running = true;
+        consumerThread = new Thread(this::consume, "subscription-intake-consumer");
+        consumerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        KafkaConsumer<String, String> current = consumer;
+        if (current != null) {
+            current.wakeup();
+        }
+        try {
+            consumerThread.join(Duration.ofSeconds(10).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        producer.close(Duration.ofSeconds(5));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void consume() {
+        try (KafkaConsumer<String, String> kafkaConsumer = new KafkaConsumer<>(consumerProperties)) {
+            consumer = kafkaConsumer;
+            kafkaConsumer.subscribe(List.of(topic));
+            while (running) {
+                ConsumerRecords<String, String> records = kafkaConsumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    continue;
+                }
+                try {
+                    processor.process(parse(records));
+                    kafkaConsumer.commitSync();
+                } catch (RuntimeException e) {
+                    log.error("Could not process {} subscription requests, retrying: {}", records.count(), e.getMessage(), e);
+                    rewind(kafkaConsumer, records);
+                    Thread.sleep(RETRY_BACKOFF.toMillis());
+                }
+            }
+        } catch (WakeupException e) {
+            if (running) {
+                throw e;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            consumer = null;
+        }
+    }
+
+    private List<SubscriptionRequest> parse(ConsumerRecords<String, String> records) {
+        List<SubscriptionRequest> requests = new ArrayList<>(records.count());
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                requests.add(objectMapper.readValue(record.value(), SubscriptionRequest.class));
+            } catch (JsonProcessingException e) {
+                log.error("Skipping unreadable subscription request at {}-{}@{}: {}",
+                        record.topic(), record.partition(), record.offset(), e.getMessage());
+            }
+        }
+        return requests;
+    }
+
+    private void rewind(KafkaConsumer<String, String> kafkaConsumer, ConsumerRecords<String, String> records) {
+        for (TopicPartition partition : records.partitions()) {
+            kafkaConsumer.seek(partition, records.records(partition).get(0).offset());
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.service.event.intake;
+
+import com.service.event.entity.Event;
+import com.service.event.entity.EventSubscription;
+import com.service.event.entity.SubscriptionTicket;
+import com.service.event.enums.EventStatus;
+import com.service.event.enums.SeatReservationOutcome;
+import com.service.event.enums.SubscriptionStatus;
+import com.service.event.enums.SubscriptionTicketStatus;
+import com.service.event.repository.EventRepository;
+import com.service.event.repository.EventSubscriptionRepository;
+import com.service.event.repository.SubscriptionTicketRepository;
+import com.service.event.service.EventSeatReservationService;
+import com.service.event.service.SeatReservation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Turns queued subscription requests into subscriptions, one transaction per event.
+ * <p>
+ * For each event of a batch: the tickets are locked (a request delivered twice is skipped
+ * once its ticket is final), duplicates are rejected with one query, and the subscriptions
+ * are inserted together. Like the regular path, a subscription is PENDING until the organizer
+ * approves it, or WAITLISTED when the event is full, and takes no seat. Only the tickets that
+ * asked for {@code autoApprove} (refused for events requiring approval) take seats, with one
+ * capacity update for the batch: in arrival order, the first ones get the seats (APPROVED),
+ * the others are WAITLISTED.
+ * <p>
+ * If the transaction of a batch fails, its requests are retried one by one, so one bad
+ * request cannot hold the others back.
+ */
+@Slf4j
+@Component
+public class SubscriptionBatchProcessor {
+
+    private final SubscriptionTicketRepository ticketRepository;
+    private final EventRepository eventRepository;
+    private final EventSubscriptionRepository subscriptionRepository;
+    private final EventSeatReservationService seatReservationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public SubscriptionBatchProcessor(SubscriptionTicketRepository ticketRepository,
+                                      EventRepository eventRepository,
+                                      EventSubscriptionRepository subscriptionRepository,
+                                      EventSeatReservationService seatReservationService,
+                                      ApplicationEventPublisher eventPublisher,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.ticketRepository = ticketRepository;
+        this.eventRepository = eventRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.seatReservationService = seatReservationService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Processes the requests of a batch, grouped by event. Throws only if the database cannot
+     * be reached: the tickets then stay QUEUED.
+     */
+    public void process(List<SubscriptionRequest> requests) {
+        requests.stream()
+                .collect(Collectors.groupingBy(SubscriptionRequest::eventId, LinkedHashMap::new, Collectors.toList()))
+                .forEach(this::processEvent);
+    }
+
+    private void processEvent(UUID eventId, List<SubscriptionRequest> requests) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeBatch(eventId, requests));
+            meterRegistry.summary("event.intake.batch.size").record(requests.size());
+        } catch (RuntimeException e) {
+            if (requests.size() == 1) {
+                // A unique constraint: subscribed meanwhile through another path or instance
+                reject(requests.get(0), e instanceof DataIntegrityViolationException
+                        ? "User is already subscribed to this event" : e.getMessage());
+                return;
+            }
+            log.warn("Subscription batch of {} requests for event {} failed, processing them one by one: {}",
+                    requests.size(), eventId, e.getMessage());
+            meterRegistry.counter("event.intake.batch.fallbacks").increment();
+            requests.forEach(request -> processEvent(eventId, List.of(request)));
+        } finally {
+            sample.stop(meterRegistry.timer("event.intake.batch.duration"));
+        }
+    }
+
+    private void writeBatch(UUID eventId, List<SubscriptionRequest> requests) {
+        Map<UUID, SubscriptionTicket> tickets = ticketRepository
+                .findAllByIdForUpdate(requests.stream().map(SubscriptionRequest::ticketId).toList())
+                .stream()
+                .collect(Collectors.toMap(SubscriptionTicket::getId, Function.identity()));
+
+        // Still queued, in arrival order, each ticket once
+        List<SubscriptionTicket> queued = new ArrayList<>();
+        for (SubscriptionRequest request : requests) {
+            SubscriptionTicket ticket = tickets.remove(request.ticketId());
+            if (ticket != null && !ticket.getStatus().isFinal()) {
+                queued.add(ticket);
+            }
+        }
+        if (queued.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> takenUsers = new HashSet<>();
+        Set<UUID> takenStudents = new HashSet<>();
+        subscriptionRepository.findByEventIdAndParticipants(eventId,
+                        queued.stream().map(SubscriptionTicket::getUserId).toList(),
+                        queued.stream().map(SubscriptionTicket::getStudentId).toList())
+                .forEach(existing -> {
+                    takenUsers.add(existing.getUserId());
+                    takenStudents.add(existing.getStudentId());
+                });
+
+        List<SubscriptionTicket> accepted = new ArrayList<>();
+        for (SubscriptionTicket ticket : queued) {
+            // add() also rejects the second request of a user within the batch
+            if (takenUsers.add(ticket.getUserId()) & takenStudents.add(ticket.getStudentId())) {
+                accepted.add(ticket);
+            } else {
+                complete(ticket, SubscriptionTicketStatus.REJECTED, null, "User is already subscribed to this event");
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        Event event = eventRepository.findById(eventId).orElse(null);
+        if (event == null) {
+            accepted.forEach(ticket -> complete(ticket, SubscriptionTicketStatus.REJECTED, null,
+                    "Event not found with id: " + eventId));
+            return;
+        }
+        if (event.getStatus() != EventStatus.ACTIVE || !event.isRegistrationOpen()) {
+            accepted.forEach(ticket -> complete(ticket, SubscriptionTicketStatus.REJECTED, null,
+                    "Event is not available for registration"));
+            return;
+        }
+
+        // Checked again here: the event may have started to require approval since the request
+        boolean approvalRequired = Boolean.TRUE.equals(event.getRequiresApproval());
+        long autoApproved = accepted.stream()
+                .filter(ticket -> Boolean.TRUE.equals(ticket.getAutoApprove()) && !approvalRequired)
+                .count();
+        int seats = 0;
+        if (autoApproved > 0) {
+            SeatReservation reservation = seatReservationService.reserveUpTo(eventId, (int) autoApproved, true);
+            seats = reservation.outcome() == SeatReservationOutcome.RESERVED ? reservation.reserved() : 0;
+        }
+        int reserved = seats;
+
+        SubscriptionStatus pendingStatus = event.isFull() ? SubscriptionStatus.WAITLISTED : SubscriptionStatus.PENDING;
+        List<EventSubscription> subscriptions = new ArrayList<>(accepted.size());
+        for (SubscriptionTicket ticket : accepted) {
+            EventSubscription subscription = new EventSubscription();
+            subscription.setEventId(eventId);
+            subscription.setUserId(ticket.getUserId());
+            subscription.setStudentId(ticket.getStudentId());
+            subscription.setRegistrationDate(ticket.getCreatedAt());
+            if (!Boolean.TRUE.equals(ticket.getAutoApprove()) || approvalRequired) {
+                subscription.setStatus(pendingStatus);
+            } else if (seats > 0) {
+                subscription.approve();
+                seats--;
+            } else {
+                subscription.setStatus(SubscriptionStatus.WAITLISTED);
+            }
+            subscriptions.add(subscription);
+        }
+
+        List<EventSubscription> saved = subscriptionRepository.saveAll(subscriptions);
+        for (int i = 0; i < accepted.size(); i++) {
+            EventSubscription subscription = saved.get(i);
+            complete(accepted.get(i), SubscriptionTicketStatus.valueOf(subscription.getStatus().name()),
+                    subscription.getId(), null);
+        }
+        log.debug("Subscription batch for event {}: {} requests, {} seats reserved",
+                eventId, accepted.size(), reserved);
+    }
+
+    private void reject(SubscriptionRequest request, String message) {
+        transactionTemplate.executeWithoutResult(status -> ticketRepository
+                .findAllByIdForUpdate(List.of(request.ticketId()))
+                .stream()
+                .filter(ticket -> !ticket.getStatus().isFinal())
+                .forEach(ticket -> complete(ticket, SubscriptionTicketStatus.REJECTED, null, message)));
+    }
+
+    private void complete(SubscriptionTicket ticket, SubscriptionTicketStatus status, UUID subscriptionId, String message) {
+        ticket.complete(status, subscriptionId, message);
+        meterRegistry.counter("event.intake.tickets", "status", status.name()).increment();
+        eventPublisher.publishEvent(new SubscriptionTicketCompletedEvent(ticket));
+    }
+}
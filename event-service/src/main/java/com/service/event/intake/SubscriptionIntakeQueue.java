@@ -0,0 +1,14 @@
+package com.service.event.intake;
+
+/**
+ * Queue between the asynchronous subscription endpoint and the {@link SubscriptionBatchProcessor}.
+ * The implementation is chosen with {@code event.intake.queue}: {@code in-process} (default)
+ * or {@code kafka}.
+ */
+public interface SubscriptionIntakeQueue {
+
+    /**
+     * @return false if the request could not be queued
+     */
+    boolean offer(SubscriptionRequest request);
+}
@@ -0,0 +1,14 @@
+package com.service.event.intake;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A queued subscription request, identified by its ticket.
+ */
+public record SubscriptionRequest(UUID ticketId,
+                                  UUID eventId,
+                                  UUID userId,
+                                  UUID studentId,
+                                  LocalDateTime requestedAt) {
+}
@@ -0,0 +1,9 @@
+package com.service.event.intake;
+
+import com.service.event.entity.SubscriptionTicket;
+
+/**
+ * Published when a ticket gets its final status, within the transaction that sets it.
+ */
+public record SubscriptionTicketCompletedEvent(SubscriptionTicket ticket) {
+}
@@ -43,15 +43,6 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
     List<Event> findByDateRange(@Param("startDate") LocalDate startDate,
                                 @Param("endDate") LocalDate endDate);
 
-    @Query("SELECT e FROM Event e WHERE " +
-            "(LOWER(e.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(e.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(e.category) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(e.tags) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "AND e.status = 'ACTIVE' " +
-            "ORDER BY e.isFeatured DESC, e.startDate ASC")
-    List<Event> searchEvents(@Param("keyword") String keyword);
-
     @Query("SELECT e.category, COUNT(e) FROM Event e WHERE e.status = 'ACTIVE' GROUP BY e.category")
     List<Object[]> countEventsByCategory();
 
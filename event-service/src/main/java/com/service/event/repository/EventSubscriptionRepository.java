@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,7 +41,17 @@ public interface EventSubscriptionRepository extends JpaRepository<EventSubscrip
 
     List<EventSubscription> findByEventIdAndCertificateIssuedTrue(UUID eventId);
 
-    Optional<EventSubscription> findFirstByEventIdAndStatusOrderByCreatedAtAsc(UUID eventId, SubscriptionStatus status);
+    @Query("SELECT es.userId FROM EventSubscription es WHERE es.eventId = :eventId")
+    List<UUID> findUserIdsByEventId(@Param("eventId") UUID eventId);
+
+    @Query("SELECT es.studentId FROM EventSubscription es WHERE es.eventId = :eventId")
+    List<UUID> findStudentIdsByEventId(@Param("eventId") UUID eventId);
+
+    @Query("SELECT es FROM EventSubscription es WHERE es.eventId = :eventId " +
+            "AND (es.userId IN :userIds OR es.studentId IN :studentIds)")
+    List<EventSubscription> findByEventIdAndParticipants(@Param("eventId") UUID eventId,
+                                                         @Param("userIds") Collection<UUID> userIds,
+                                                         @Param("studentIds") Collection<UUID> studentIds);
 
     @Query("SELECT es FROM EventSubscription es WHERE es.status IN :statuses AND es.isActive = true")
     List<EventSubscription> findActiveSubscriptions(@Param("statuses") List<SubscriptionStatus> statuses);
@@ -0,0 +1,29 @@
+package com.service.event.repository;
+
+import com.service.event.entity.SubscriptionTicket;
+import com.service.event.enums.SubscriptionTicketStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SubscriptionTicketRepository extends JpaRepository<SubscriptionTicket, UUID> {
+
+    // Locked so that a request delivered twice is only processed once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM SubscriptionTicket t WHERE t.id IN :ids")
+    List<SubscriptionTicket> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
+
+    List<SubscriptionTicket> findByStatusAndCreatedAtBeforeOrderByCreatedAtAsc(SubscriptionTicketStatus status,
+                                                                               LocalDateTime createdBefore,
+                                                                               Pageable pageable);
+}
@@ -0,0 +1,487 @@
+package com.service.event.service;
+
+import com.service.event.dto.event.EventLaunchStatusDTO;
+import com.service.event.entity.Event;
+import com.service.event.entity.EventSubscription;
+import com.service.event.enums.EventStatus;
+import com.service.event.enums.SeatReservationOutcome;
+import com.service.event.enums.SubscriptionStatus;
+import com.service.event.repository.EventRepository;
+import com.service.event.repository.EventSubscriptionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Launch mode of an event: for the first minutes of a popular event, subscriptions are
+ * admitted in memory and written to the database in batches.
+ * <p>
+ * Opening a launch preloads the free seats of the event as tokens and the users and students
+ * already subscribed. Duplicates are then refused in memory and every subscription is queued.
+ * A scheduled writer drains the queue in batches: one duplicate check, one conditional seat
+ * reservation for the whole batch and one batched insert, in one transaction.
+ * <p>
+ * By default a launch keeps the approval workflow of the regular path: subscriptions are
+ * written PENDING (WAITLISTED if the event is full) and take their seat when approved. Only a
+ * launch opened with {@code autoApprove} approves them directly: a subscription takes a token
+ * with a compare-and-set (APPROVED) or is WAITLISTED when none is left.
+ * <p>
+ * The database stays authoritative. The in-memory decision is re-checked by the seat
+ * reservation of the batch (admissions beyond the seats really left are waitlisted), and a
+ * caller only gets its subscription once the batch has committed, so a crash loses nothing
+ * that was acknowledged. Launches are not persisted: after a restart the event is back to
+ * the regular subscription path.
+ */
+@Slf4j
+@Service
+public class EventLaunchService {
+
+    private final EventRepository eventRepository;
+    private final EventSubscriptionRepository subscriptionRepository;
+    private final EventSeatReservationService seatReservationService;
+    private final IServiceEventSubscription subscriptionService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Duration writeTimeout;
+
+    private final Map<UUID, Launch> launches = new ConcurrentHashMap<>();
+
+    public EventLaunchService(EventRepository eventRepository,
+                              EventSubscriptionRepository subscriptionRepository,
+                              EventSeatReservationService seatReservationService,
+                              IServiceEventSubscription subscriptionService,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${event.launch.batch-size:200}") int batchSize,
+                              @Value("${event.launch.write-timeout:10s}") Duration writeTimeout) {
+        this.eventRepository = eventRepository;
+        this.subscriptionRepository = subscriptionRepository;
+        this.seatReservationService = seatReservationService;
+        this.subscriptionService = subscriptionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.writeTimeout = writeTimeout;
+
+        meterRegistry.gauge("event.launch.open", launches, Map::size);
+    }
+
+    /* =======================
+       LAUNCHES
+       ======================= */
+
+    /**
+     * Opens the launch of an event. With {@code autoApprove} the subscriptions taking a seat
+     * are APPROVED without going through the approval of the organizer.
+     */
+    public EventLaunchStatusDTO openLaunch(UUID eventId, boolean autoApprove) {
+        Launch existing = launches.get(eventId);
+        if (existing != null) {
+            return existing.status();
+        }
+
+        Launch launch = transactionTemplate.execute(status -> {
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
+            if (autoApprove && event.getMaxParticipants() == null) {
+                throw new RuntimeException("Launch mode needs an event with a maximum number of participants");
+            }
+            if (autoApprove && Boolean.TRUE.equals(event.getRequiresApproval())) {
+                throw new RuntimeException("Event requires approval, its subscriptions cannot be approved automatically");
+            }
+            if (event.getStatus() != EventStatus.ACTIVE || !event.isRegistrationOpen()) {
+                throw new RuntimeException("Event is not available for registration");
+            }
+
+            int participants = event.getCurrentParticipants() == null ? 0 : event.getCurrentParticipants();
+            int seats = event.getMaxParticipants() == null ? 0 : Math.max(event.getMaxParticipants() - participants, 0);
+            return new Launch(eventId, autoApprove, seats,
+                    subscriptionRepository.findUserIdsByEventId(eventId),
+                    subscriptionRepository.findStudentIdsByEventId(eventId));
+        });
+
+        Launch current = launches.putIfAbsent(eventId, launch);
+        if (current != null) {
+            return current.status();
+        }
+        log.info("Launch mode opened for event {} with {} seats, auto-approve {}", eventId, launch.seats.get(), autoApprove);
+        return launch.status();
+    }
+
+    /**
+     * Ends the launch: the queued subscriptions are written, later ones take the regular path.
+     */
+    public EventLaunchStatusDTO closeLaunch(UUID eventId) {
+        Launch launch = launches.remove(eventId);
+        if (launch == null) {
+            throw new RuntimeException("Launch mode is not open for event: " + eventId);
+        }
+
+        launch.closed = true;
+        drain(launch);
+        log.info("Launch mode closed for event {}: {} admitted, {} pending, {} waitlisted, {} written",
+                eventId, launch.admitted.get(), launch.pending.get(), launch.waitlisted.get(), launch.written.get());
+        return launch.status();
+    }
+
+    public Optional<EventLaunchStatusDTO> getLaunchStatus(UUID eventId) {
+        return Optional.ofNullable(launches.get(eventId)).map(Launch::status);
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        launches.keySet().forEach(eventId -> {
+            try {
+                closeLaunch(eventId);
+            } catch (RuntimeException e) {
+                log.error("Could not close launch mode of event {}: {}", eventId, e.getMessage(), e);
+            }
+        });
+    }
+
+    /* =======================
+       SUBSCRIPTIONS
+       ======================= */
+
+    /**
+     * Subscribes a user to an event, through the launch of the event if one is open. Returns
+     * once the subscription is written.
+     */
+    public EventSubscription subscribe(UUID eventId, UUID userId, UUID studentId) {
+        Launch launch = launches.get(eventId);
+        if (launch == null) {
+            return subscriptionService.subscribeToEvent(eventId, userId, studentId);
+        }
+
+        Admission admission = launch.admit(userId, studentId);
+        meterRegistry.counter("event.launch.admissions", "decision",
+                !launch.autoApprove ? "pending" : admission.admitted ? "admitted" : "waitlisted").increment();
+
+        if (launch.closed) {
+            // Closed meanwhile: its queue may already have been drained
+            drain(launch);
+        }
+        return await(admission);
+    }
+
+    private EventSubscription await(Admission admission) {
+        try {
+            return admission.result.get(writeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new RuntimeException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Subscription not confirmed yet, check the subscriptions of the user before retrying");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the subscription");
+        }
+    }
+
+    /* =======================
+       WRITE-BEHIND
+       ======================= */
+
+    @Scheduled(initialDelayString = "${event.launch.flush-interval:50ms}",
+            fixedDelayString = "${event.launch.flush-interval:50ms}")
+    public void flushPending() {
+        launches.values().forEach(launch -> {
+            try {
+                drain(launch);
+            } catch (Exception e) {
+                log.error("Launch write-behind failed for event {}: {}", launch.eventId, e.getMessage(), e);
+            }
+        });
+    }
+
+    private void drain(Launch launch) {
+        List<Admission> batch;
+        while (!(batch = launch.poll(batchSize)).isEmpty()) {
+            write(launch, batch);
+        }
+    }
+
+    private void write(Launch launch, List<Admission> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeBatch(launch, batch));
+        } catch (RuntimeException e) {
+            // Rolled back as a whole, e.g. a subscription written meanwhile by another instance:
+            // fall back to the regular path for each of them
+            log.warn("Launch batch of {} subscriptions for event {} failed, writing them one by one: {}",
+                    batch.size(), launch.eventId, e.getMessage());
+            meterRegistry.counter("event.launch.batch.fallbacks").increment();
+            batch.forEach(admission -> admission.failure = null);
+            batch.forEach(admission -> writeOne(launch, admission));
+            return;
+        } finally {
+            sample.stop(meterRegistry.timer("event.launch.batch.duration"));
+        }
+
+        // Committed
+        batch.forEach(admission -> complete(launch, admission));
+        meterRegistry.summary("event.launch.batch.size").record(batch.size());
+    }
+
+    private void writeBatch(Launch launch, List<Admission> batch) {
+        UUID eventId = launch.eventId;
+
+        Set<UUID> takenUsers = new HashSet<>();
+        Set<UUID> takenStudents = new HashSet<>();
+        subscriptionRepository.findByEventIdAndParticipants(eventId,
+                        batch.stream().map(admission -> admission.userId).toList(),
+                        batch.stream().map(admission -> admission.studentId).toList())
+                .forEach(existing -> {
+                    takenUsers.add(existing.getUserId());
+                    takenStudents.add(existing.getStudentId());
+                });
+
+        List<Admission> accepted = new ArrayList<>();
+        for (Admission admission : batch) {
+            if (takenUsers.contains(admission.userId) || takenStudents.contains(admission.studentId)) {
+                admission.failure = new RuntimeException("User is already subscribed to this event");
+            } else {
+                accepted.add(admission);
+            }
+        }
+
+        List<EventSubscription> subscriptions = launch.autoApprove
+                ? approvedSubscriptions(launch, accepted)
+                : pendingSubscriptions(launch, accepted);
+        if (subscriptions == null) {
+            accepted.forEach(admission ->
+                    admission.failure = new RuntimeException("Event is not available for registration"));
+            return;
+        }
+
+        List<EventSubscription> saved = subscriptionRepository.saveAll(subscriptions);
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).subscription = saved.get(i);
+        }
+    }
+
+    private List<EventSubscription> approvedSubscriptions(Launch launch, List<Admission> accepted) {
+        int seats = grantSeats(launch, (int) accepted.stream().filter(admission -> admission.admitted).count());
+        if (seats < 0) {
+            return null;
+        }
+
+        // Seats go to the admitted subscriptions in arrival order
+        List<EventSubscription> subscriptions = new ArrayList<>(accepted.size());
+        for (Admission admission : accepted) {
+            EventSubscription subscription = admission.newSubscription();
+            if (admission.admitted && seats > 0) {
+                subscription.approve();
+                seats--;
+            } else {
+                subscription.setStatus(SubscriptionStatus.WAITLISTED);
+            }
+            subscriptions.add(subscription);
+        }
+        return subscriptions;
+    }
+
+    // Same outcome as the regular path: no seat is taken until the organizer approves
+    private List<EventSubscription> pendingSubscriptions(Launch launch, List<Admission> accepted) {
+        Event event = eventRepository.findById(launch.eventId).orElse(null);
+        if (event == null || event.getStatus() != EventStatus.ACTIVE || !event.isRegistrationOpen()) {
+            endLaunch(launch, event == null ? "NOT_FOUND" : "NOT_OPEN");
+            return null;
+        }
+
+        SubscriptionStatus status = event.isFull() ? SubscriptionStatus.WAITLISTED : SubscriptionStatus.PENDING;
+        List<EventSubscription> subscriptions = new ArrayList<>(accepted.size());
+        for (Admission admission : accepted) {
+            EventSubscription subscription = admission.newSubscription();
+            subscription.setStatus(status);
+            subscriptions.add(subscription);
+        }
+        return subscriptions;
+    }
+
+    /**
+     * Reserves the seats admitted in memory in one statement. If the database has fewer left
+     * (taken through the regular path or by another instance), takes what is left.
+     *
+     * @return the seats reserved, or -1 if the event no longer accepts registrations
+     */
+    private int grantSeats(Launch launch, int admitted) {
+        if (admitted == 0) {
+            return 0;
+        }
+
+        SeatReservation reservation = seatReservationService.reserveUpTo(launch.eventId, admitted, true);
+        if (reservation.outcome() != SeatReservationOutcome.RESERVED
+                && reservation.outcome() != SeatReservationOutcome.FULL) {
+            endLaunch(launch, reservation.outcome().name());
+            return -1;
+        }
+
+        if (reservation.reserved() < admitted) {
+            launch.seats.set(0);
+            log.info("Launch of event {}: {} admissions, only {} seats left",
+                    launch.eventId, admitted, reservation.reserved());
+        }
+        return reservation.reserved();
+    }
+
+    private void endLaunch(Launch launch, String reason) {
+        launches.remove(launch.eventId, launch);
+        launch.closed = true;
+        log.info("Launch mode of event {} ended: {}", launch.eventId, reason);
+    }
+
+    private void writeOne(Launch launch, Admission admission) {
+        try {
+            EventSubscription subscription = admission.newSubscription();
+            subscription.setStatus(!launch.autoApprove ? SubscriptionStatus.PENDING
+                    : admission.admitted ? SubscriptionStatus.APPROVED : SubscriptionStatus.WAITLISTED);
+            admission.subscription = subscriptionService.createSubscription(subscription);
+        } catch (RuntimeException e) {
+            admission.failure = e;
+        }
+        complete(launch, admission);
+    }
+
+    private void complete(Launch launch, Admission admission) {
+        if (admission.failure != null) {
+            launch.forget(admission);
+            admission.result.completeExceptionally(admission.failure);
+            return;
+        }
+        launch.written.incrementAndGet();
+        admission.result.complete(admission.subscription);
+    }
+
+    /* =======================
+       STATE
+       ======================= */
+
+    private static final class Launch {
+
+        private final UUID eventId;
+        private final boolean autoApprove;
+        private final LocalDateTime openedAt = LocalDateTime.now();
+        private final AtomicInteger seats;
+        private final Set<UUID> userIds = ConcurrentHashMap.newKeySet();
+        private final Set<UUID> studentIds = ConcurrentHashMap.newKeySet();
+        private final Queue<Admission> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicLong admitted = new AtomicLong();
+        private final AtomicLong pending = new AtomicLong();
+        private final AtomicLong waitlisted = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong written = new AtomicLong();
+        private volatile boolean closed;
+
+        private Launch(UUID eventId, boolean autoApprove, int seats, Collection<UUID> userIds, Collection<UUID> studentIds) {
+            this.eventId = eventId;
+            this.autoApprove = autoApprove;
+            this.seats = new AtomicInteger(seats);
+            this.userIds.addAll(userIds);
+            this.studentIds.addAll(studentIds);
+        }
+
+        private Admission admit(UUID userId, UUID studentId) {
+            if (!userIds.add(userId)) {
+                rejected.incrementAndGet();
+                throw new RuntimeException("User is already subscribed to this event");
+            }
+            if (!studentIds.add(studentId)) {
+                userIds.remove(userId);
+                rejected.incrementAndGet();
+                throw new RuntimeException("User is already subscribed to this event");
+            }
+
+            // Without auto-approval the seat is only taken when the subscription is approved
+            boolean seat = autoApprove && seats.getAndUpdate(left -> left > 0 ? left - 1 : left) > 0;
+            (!autoApprove ? pending : seat ? admitted : waitlisted).incrementAndGet();
+
+            Admission admission = new Admission(eventId, userId, studentId, seat);
+            queue.add(admission);
+            queued.incrementAndGet();
+            return admission;
+        }
+
+        private List<Admission> poll(int max) {
+            List<Admission> batch = new ArrayList<>();
+            Admission next;
+            while (batch.size() < max && (next = queue.poll()) != null) {
+                batch.add(next);
+            }
+            queued.addAndGet(-batch.size());
+            return batch;
+        }
+
+        // The subscription was not written: its user may retry, and its seat is free again
+        private void forget(Admission admission) {
+            userIds.remove(admission.userId);
+            studentIds.remove(admission.studentId);
+            rejected.incrementAndGet();
+            if (admission.admitted) {
+                seats.incrementAndGet();
+            }
+        }
+
+        private EventLaunchStatusDTO status() {
+            return new EventLaunchStatusDTO(eventId, autoApprove, openedAt, seats.get(), admitted.get(), pending.get(),
+                    waitlisted.get(), rejected.get(), queued.get(), written.get());
+        }
+    }
+
+    private static final class Admission {
+
+        private final UUID eventId;
+        private final UUID userId;
+        private final UUID studentId;
+        private final boolean admitted;
+        private final LocalDateTime registrationDate = LocalDateTime.now();
+        private final CompletableFuture<EventSubscription> result = new CompletableFuture<>();
+
+        // Outcome of the write, set by the writer thread
+        private EventSubscription subscription;
+        private RuntimeException failure;
+
+        private Admission(UUID eventId, UUID userId, UUID studentId, boolean admitted) {
+            this.eventId = eventId;
+            this.userId = userId;
+            this.studentId = studentId;
+            this.admitted = admitted;
+        }
+
+        private EventSubscription newSubscription() {
+            EventSubscription subscription = new EventSubscription();
+            subscription.setEventId(eventId);
+            subscription.setUserId(userId);
+            subscription.setStudentId(studentId);
+            subscription.setRegistrationDate(registrationDate);
+            return subscription;
+        }
+    }
+}
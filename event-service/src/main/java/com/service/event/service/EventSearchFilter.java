@@ -0,0 +1,16 @@
+package com.service.event.service;
+
+import java.time.LocalDate;
+
+/**
+ * Restrictions of an event search; a null field does not restrict.
+ *
+ * @param from     events ending on or after this day
+ * @param to       events starting on or before this day
+ * @param online   online ({@code true}) or physical ({@code false}) events only
+ * @param category events of this category only, case-insensitive
+ */
+public record EventSearchFilter(LocalDate from, LocalDate to, Boolean online, String category) {
+
+    public static final EventSearchFilter NONE = new EventSearchFilter(null, null, null, null);
+}
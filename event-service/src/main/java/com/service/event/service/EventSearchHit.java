@@ -0,0 +1,6 @@
+package com.service.event.service;
+
+import java.util.UUID;
+
+public record EventSearchHit(UUID eventId, double score) {
+}
@@ -0,0 +1,9 @@
+package com.service.event.service;
+
+import com.service.event.entity.Event;
+
+/**
+ * An event found by a keyword search, with its relevance score.
+ */
+public record EventSearchMatch(Event event, double score) {
+}
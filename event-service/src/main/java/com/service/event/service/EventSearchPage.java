@@ -0,0 +1,9 @@
+package com.service.event.service;
+
+import java.util.List;
+
+/**
+ * One page of ranked hits, and the number of events matching the query and the filter.
+ */
+public record EventSearchPage(List<EventSearchHit> hits, long total) {
+}
@@ -0,0 +1,9 @@
+package com.service.event.service;
+
+import java.util.List;
+
+/**
+ * One page of keyword search matches, best first, and the number of events matching in total.
+ */
+public record EventSearchResult(List<EventSearchMatch> matches, long total) {
+}
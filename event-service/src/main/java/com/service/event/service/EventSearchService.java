@@ -0,0 +1,136 @@
+package com.service.event.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search over the active events, answered by PostgreSQL.
+ * <p>
+ * Every event carries a generated {@code search_vector} column (see init-event.sql) weighting
+ * the title (A) over the tags and category (B), the location (C) and the description (D). It
+ * is recomputed by the database on every write of those columns and GIN-indexed, so a search
+ * reads the index instead of scanning the table. Each keyword of the query is matched as a
+ * prefix ("hack" finds "hackathon") and all of them have to match; hits are ranked with
+ * {@code ts_rank}, featured events slightly ahead, the soonest first on equal rank. The date
+ * range, online/physical and category filters are part of the same query.
+ */
+@Slf4j
+@Service
+public class EventSearchService {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final String FROM = """
+            FROM event_schema.events e
+            WHERE e.search_vector @@ to_tsquery('simple', :query)
+              AND e.status = 'ACTIVE'
+            """;
+
+    private static final String SELECT_PAGE = """
+            SELECT e.id,
+                   ts_rank(e.search_vector, to_tsquery('simple', :query))
+                       * CASE WHEN e.is_featured THEN 1.1 ELSE 1 END AS score
+            """;
+
+    private static final String ORDER_PAGE = """
+            ORDER BY score DESC, e.start_date, e.id
+            LIMIT :size OFFSET :offset
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public EventSearchService(NamedParameterJdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Ranked active events passing {@code filter} and matching every keyword of {@code query};
+     * {@code page} is zero-based. Run it in a transaction with a snapshot for the whole call
+     * (repeatable read) so the total and the page agree.
+     */
+    public EventSearchPage search(String query, EventSearchFilter filter, int page, int size) {
+        String tsQuery = toTsQuery(query);
+        if (tsQuery == null || size <= 0 || page < 0) {
+            return new EventSearchPage(List.of(), 0);
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            MapSqlParameterSource params = new MapSqlParameterSource("query", tsQuery);
+            String where = FROM + filters(filter, params);
+
+            Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) " + where, params, Long.class);
+            if (total == null || total == 0 || (long) page * size >= total) {
+                return new EventSearchPage(List.of(), total == null ? 0 : total);
+            }
+
+            params.addValue("size", size).addValue("offset", (long) page * size);
+            List<EventSearchHit> hits = jdbcTemplate.query(SELECT_PAGE + where + ORDER_PAGE, params,
+                    (rs, rowNum) -> new EventSearchHit(rs.getObject("id", UUID.class), rs.getDouble("score")));
+            log.debug("Event search '{}': {} matches, page {} of size {}", tsQuery, total, page, size);
+            return new EventSearchPage(hits, total);
+        } finally {
+            sample.stop(meterRegistry.timer("event.search.query.duration"));
+        }
+    }
+
+    private static String filters(EventSearchFilter filter, MapSqlParameterSource params) {
+        if (filter == null) {
+            return "";
+        }
+        StringBuilder sql = new StringBuilder();
+        // Overlap of the event with the range: an event running through it is found
+        if (filter.from() != null) {
+            sql.append("  AND e.end_date >= :from\n");
+            params.addValue("from", Date.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            sql.append("  AND e.start_date <= :to\n");
+            params.addValue("to", Date.valueOf(filter.to()));
+        }
+        if (filter.online() != null) {
+            sql.append("  AND COALESCE(e.is_online, FALSE) = :online\n");
+            params.addValue("online", filter.online());
+        }
+        if (filter.category() != null && !filter.category().isBlank()) {
+            sql.append("  AND lower(e.category) = :category\n");
+            params.addValue("category", filter.category().trim().toLowerCase(Locale.ROOT));
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Prefix query requiring every keyword ("java spring" becomes {@code java:* & spring:*}),
+     * or null if there is none. Only letters and digits are kept, so the user input cannot
+     * inject tsquery operators.
+     */
+    static String toTsQuery(String query) {
+        if (query == null || query.isBlank()) {
+            return null;
+        }
+        Set<String> keywords = new LinkedHashSet<>();
+        for (String keyword : SEPARATORS.split(query.toLowerCase(Locale.ROOT))) {
+            if (!keyword.isEmpty()) keywords.add(keyword);
+        }
+        if (keywords.isEmpty()) {
+            return null;
+        }
+        return keywords.stream()
+                .map(keyword -> keyword + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
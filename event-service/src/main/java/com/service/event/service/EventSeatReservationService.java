@@ -0,0 +1,234 @@
+package com.service.event.service;
+
+import com.service.event.enums.SeatReservationOutcome;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seat accounting of the events, done in the database so that concurrent registrations can
+ * never overbook an event.
+ * <p>
+ * A reservation is a single conditional UPDATE: the counter is only incremented if the seats
+ * still fit under {@code max_participants}, and the row lock taken by the UPDATE serializes
+ * competing reservations on the same event. The same statement reports why nothing was
+ * reserved, so callers get the outcome in one round-trip instead of a read-check-write.
+ * <p>
+ * {@code current_participants} is not updatable through the {@link com.service.event.entity.Event}
+ * entity: this service is its only writer.
+ */
+@Slf4j
+@Service
+public class EventSeatReservationService {
+
+    private static final String RESERVE_SQL = """
+            WITH reserved AS (
+                UPDATE event_schema.events
+                SET current_participants = COALESCE(current_participants, 0) + :seats,
+                    updated_at = :now
+                WHERE id = :eventId
+                  AND (max_participants IS NULL OR COALESCE(current_participants, 0) + :seats <= max_participants)
+                  AND (NOT :registrationMustBeOpen
+                       OR (status = 'ACTIVE' AND (registration_deadline IS NULL OR registration_deadline > :now)))
+                RETURNING current_participants, max_participants
+            )
+            SELECT 'RESERVED' AS outcome, :seats AS reserved, current_participants, max_participants
+            FROM reserved
+            UNION ALL
+            SELECT CASE
+                       WHEN :registrationMustBeOpen AND e.status <> 'ACTIVE' THEN 'NOT_OPEN'
+                       WHEN :registrationMustBeOpen AND e.registration_deadline <= :now THEN 'REGISTRATION_CLOSED'
+                       ELSE 'FULL'
+                   END,
+                   0, e.current_participants, e.max_participants
+            FROM event_schema.events e
+            WHERE e.id = :eventId
+              AND NOT EXISTS (SELECT 1 FROM reserved)
+            """;
+
+    // The row is locked first, so the seats granted are computed from its latest version
+    private static final String RESERVE_UP_TO_SQL = """
+            WITH locked AS (
+                SELECT id,
+                       COALESCE(current_participants, 0) AS taken,
+                       max_participants,
+                       CASE
+                           WHEN NOT :registrationMustBeOpen THEN NULL
+                           WHEN status <> 'ACTIVE' THEN 'NOT_OPEN'
+                           WHEN registration_deadline <= :now THEN 'REGISTRATION_CLOSED'
+                       END AS closed_reason
+                FROM event_schema.events
+                WHERE id = :eventId
+                FOR UPDATE
+            ), granted AS (
+                SELECT id, taken, max_participants, closed_reason,
+                       CASE
+                           WHEN closed_reason IS NOT NULL THEN 0
+                           WHEN max_participants IS NULL THEN :seats
+                           ELSE GREATEST(LEAST(:seats, max_participants - taken), 0)
+                       END AS seats
+                FROM locked
+            ), updated AS (
+                UPDATE event_schema.events e
+                SET current_participants = g.taken + g.seats,
+                    updated_at = :now
+                FROM granted g
+                WHERE e.id = g.id
+                  AND g.seats > 0
+                RETURNING e.id
+            )
+            SELECT COALESCE(closed_reason, CASE WHEN seats > 0 THEN 'RESERVED' ELSE 'FULL' END) AS outcome,
+                   seats AS reserved,
+                   taken + seats AS current_participants,
+                   max_participants
+            FROM granted
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE event_schema.events
+            SET current_participants = GREATEST(COALESCE(current_participants, 0) - :seats, 0),
+                updated_at = :now
+            WHERE id = :eventId
+            RETURNING current_participants
+            """;
+
+    private static final String RESIZE_SQL = """
+            UPDATE event_schema.events
+            SET max_participants = :maxParticipants,
+                updated_at = :now
+            WHERE id = :eventId
+              AND COALESCE(current_participants, 0) <= :maxParticipants
+            """;
+
+    private static final String REMOVE_CAPACITY_SQL = """
+            UPDATE event_schema.events
+            SET max_participants = NULL,
+                updated_at = :now
+            WHERE id = :eventId
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public EventSeatReservationService(NamedParameterJdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /* =======================
+       RESERVATIONS
+       ======================= */
+
+    /**
+     * Takes {@code seats} seats of the event if they are all still free.
+     *
+     * @param registrationMustBeOpen also require the event to be ACTIVE with its registration
+     *                               deadline not passed (self-registration); approvals and
+     *                               waitlist promotions only check the capacity
+     */
+    public SeatReservation reserve(UUID eventId, int seats, boolean registrationMustBeOpen) {
+        if (seats <= 0) {
+            throw new RuntimeException("Number of seats must be positive");
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("eventId", eventId)
+                .addValue("seats", seats)
+                .addValue("registrationMustBeOpen", registrationMustBeOpen)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+
+        SeatReservation reservation = single(jdbcTemplate.query(RESERVE_SQL, params, this::mapReservation));
+
+        sample.stop(meterRegistry.timer("event.seats.reserve.duration"));
+        meterRegistry.counter("event.seats.reservations", "outcome", reservation.outcome().name()).increment();
+        log.debug("Seat reservation for event {}: {} ({}/{})", eventId, reservation.outcome(),
+                reservation.currentParticipants(), reservation.maxParticipants());
+        return reservation;
+    }
+
+    /**
+     * Takes as many of {@code seats} seats as the event still has free, in one statement.
+     * The outcome is RESERVED as soon as one seat was taken, see {@link SeatReservation#reserved()}.
+     */
+    public SeatReservation reserveUpTo(UUID eventId, int seats, boolean registrationMustBeOpen) {
+        if (seats <= 0) {
+            throw new RuntimeException("Number of seats must be positive");
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("eventId", eventId)
+                .addValue("seats", seats)
+                .addValue("registrationMustBeOpen", registrationMustBeOpen)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+
+        SeatReservation reservation = single(jdbcTemplate.query(RESERVE_UP_TO_SQL, params, this::mapReservation));
+
+        sample.stop(meterRegistry.timer("event.seats.reserve.duration"));
+        meterRegistry.counter("event.seats.reservations", "outcome", reservation.outcome().name()).increment();
+        log.debug("Reserved {} of {} seats for event {}: {} ({}/{})", reservation.reserved(), seats, eventId,
+                reservation.outcome(), reservation.currentParticipants(), reservation.maxParticipants());
+        return reservation;
+    }
+
+    /**
+     * Gives {@code seats} seats back to the event. The counter never goes below zero.
+     *
+     * @return the participant count after the release, or null if the event does not exist
+     */
+    public Integer release(UUID eventId, int seats) {
+        if (seats <= 0) {
+            throw new RuntimeException("Number of seats must be positive");
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("eventId", eventId)
+                .addValue("seats", seats)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+
+        List<Integer> released = jdbcTemplate.queryForList(RELEASE_SQL, params, Integer.class);
+        if (released.isEmpty()) {
+            return null;
+        }
+        meterRegistry.counter("event.seats.releases").increment(seats);
+        return released.get(0);
+    }
+
+    /**
+     * Changes the capacity of the event, unless more participants than the new capacity are
+     * already registered. {@code null} removes the limit.
+     *
+     * @return false if the event does not exist or the new capacity is too small
+     */
+    public boolean resize(UUID eventId, Integer maxParticipants) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("eventId", eventId)
+                .addValue("maxParticipants", maxParticipants)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+
+        return jdbcTemplate.update(maxParticipants == null ? REMOVE_CAPACITY_SQL : RESIZE_SQL, params) == 1;
+    }
+
+    private SeatReservation mapReservation(ResultSet rs, int rowNum) throws SQLException {
+        return new SeatReservation(
+                SeatReservationOutcome.valueOf(rs.getString("outcome")),
+                rs.getInt("reserved"),
+                rs.getObject("current_participants", Integer.class),
+                rs.getObject("max_participants", Integer.class));
+    }
+
+    private SeatReservation single(List<SeatReservation> rows) {
+        return rows.isEmpty() ? SeatReservation.notFound() : rows.get(0);
+    }
+}
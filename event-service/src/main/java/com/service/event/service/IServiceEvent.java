@@ -130,12 +130,22 @@ public interface IServiceEvent {
     List<Event> getEventsByCategory(String category);
 
     /**
-     * Search events by keyword
+     * Search active events by keyword
      * @param keyword Search keyword
-     * @return List of matching events
+     * @return First matching events, best first
      */
     List<Event> searchEvents(String keyword);
 
+    /**
+     * Ranked, paginated keyword search over active events
+     * @param keyword Search keyword
+     * @param filter Date range, online/physical and category restrictions
+     * @param page Zero-based page
+     * @param size Page size
+     * @return Page of matches with their scores, and the total number of matches
+     */
+    EventSearchResult searchEvents(String keyword, EventSearchFilter filter, int page, int size);
+
     /**
      * Get events by date range
      * @param startDate Start date
@@ -1,5 +1,6 @@
 package com.service.event.service;
 
+import com.service.event.dto.eventSubscription.WaitlistPromotionDTO;
 import com.service.event.entity.EventSubscription;
 import com.service.event.enums.SubscriptionStatus;
 
@@ -86,6 +87,6 @@ public interface IServiceEventSubscription {
     // ==================== BULK OPERATIONS ====================
 
     void approveAllPendingForEvent(UUID eventId);
-    void moveAllWaitlistedToApproved(UUID eventId);
+    WaitlistPromotionDTO promoteWaitlisted(UUID eventId);
     void cancelAllForEvent(UUID eventId, String reason);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.service.event.service;
+
+import com.service.event.enums.SeatReservationOutcome;
+
+/**
+ * Result of a seat reservation: the seats taken, and the participant count and capacity of
+ * the event as left by the statement (as of the statement start when nothing was reserved).
+ */
+public record SeatReservation(SeatReservationOutcome outcome,
+                              int reserved,
+                              Integer currentParticipants,
+                              Integer maxParticipants) {
+
+    public static SeatReservation notFound() {
+        return new SeatReservation(SeatReservationOutcome.NOT_FOUND, 0, null, null);
+    }
+
+    public boolean isReserved() {
+        return outcome == SeatReservationOutcome.RESERVED;
+    }
+}
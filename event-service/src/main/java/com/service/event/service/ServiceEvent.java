@@ -3,17 +3,21 @@ package com.service.event.service;
 import com.service.event.dto.event.UpdateEventDTO;
 import com.service.event.entity.Event;
 import com.service.event.enums.EventStatus;
+import com.service.event.enums.SeatReservationOutcome;
 import com.service.event.repository.EventRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -22,6 +26,9 @@ import java.util.UUID;
 public class ServiceEvent implements IServiceEvent {
 
     private final EventRepository eventRepository;
+    private final EventSeatReservationService seatReservationService;
+    private final WaitlistPromotionService waitlistPromotionService;
+    private final EventSearchService eventSearchService;
 
     @Override
     public Event createEvent(Event event) {
@@ -270,9 +277,30 @@ public class ServiceEvent implements IServiceEvent {
 
     @Override
     public List<Event> searchEvents(String keyword) {
-        log.debug("Searching events with keyword: {}", keyword);
+        // Every match, as the query-based search did; use the paginated overload to bound it
+        return searchEvents(keyword, EventSearchFilter.NONE, 0, Integer.MAX_VALUE).matches().stream()
+                .map(EventSearchMatch::event)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public EventSearchResult searchEvents(String keyword, EventSearchFilter filter, int page, int size) {
+        log.debug("Searching events with keyword: {} (page {}, size {})", keyword, page, size);
+
+        // One snapshot for the count, the page and the entities, so the total matches the hits
+        EventSearchPage hits = eventSearchService.search(keyword, filter, page, size);
+        Map<UUID, Event> events = eventRepository.findAllById(
+                        hits.hits().stream().map(EventSearchHit::eventId).toList())
+                .stream()
+                .collect(Collectors.toMap(Event::getId, event -> event));
 
-        return eventRepository.searchEvents(keyword);
+        // Keep the ranking of the search
+        List<EventSearchMatch> matches = hits.hits().stream()
+                .filter(hit -> events.containsKey(hit.eventId()))
+                .map(hit -> new EventSearchMatch(events.get(hit.eventId()), hit.score()))
+                .collect(Collectors.toList());
+        return new EventSearchResult(matches, hits.total());
     }
 
     @Override
@@ -311,15 +339,17 @@ public class ServiceEvent implements IServiceEvent {
     public Event updateEventCapacity(UUID eventId, Integer maxParticipants) {
         log.info("Updating event {} capacity to {}", eventId, maxParticipants);
 
-        Event event = getEventById(eventId);
-
-        // Validate that new capacity is not less than current participants
-        if (maxParticipants != null && maxParticipants < event.getCurrentParticipants()) {
+        // Checked against the participant count in the same statement, so a registration
+        // committing meanwhile cannot end up above the new capacity
+        if (!seatReservationService.resize(eventId, maxParticipants)) {
+            getEventById(eventId);
             throw new RuntimeException("New capacity cannot be less than current participants");
         }
 
-        event.setMaxParticipants(maxParticipants);
-        Event updatedEvent = eventRepository.save(event);
+        // Seats added go to the waitlist first
+        waitlistPromotionService.promote(eventId);
+
+        Event updatedEvent = getEventById(eventId);
 
         log.info("Event {} capacity updated to {}", eventId, maxParticipants);
 
@@ -344,15 +374,16 @@ public class ServiceEvent implements IServiceEvent {
     public Event incrementParticipants(UUID eventId) {
         log.debug("Incrementing participants for event: {}", eventId);
 
-        Event event = getEventById(eventId);
-
-        // Check if event is full
-        if (event.isFull()) {
+        SeatReservation reservation = seatReservationService.reserve(eventId, 1, false);
+        if (reservation.outcome() == SeatReservationOutcome.NOT_FOUND) {
+            throw new RuntimeException("Event not found with id: " + eventId);
+        }
+        if (!reservation.isReserved()) {
             throw new RuntimeException("Event is already full");
         }
 
-        event.incrementParticipants();
-        Event updatedEvent = eventRepository.save(event);
+        Event updatedEvent = getEventById(eventId);
+        updatedEvent.setCurrentParticipants(reservation.currentParticipants());
 
         log.debug("Event {} participants incremented to {}", eventId, updatedEvent.getCurrentParticipants());
 
@@ -363,10 +394,14 @@ public class ServiceEvent implements IServiceEvent {
     public Event decrementParticipants(UUID eventId) {
         log.debug("Decrementing participants for event: {}", eventId);
 
-        Event event = getEventById(eventId);
-        event.decrementParticipants();
+        Integer participants = seatReservationService.release(eventId, 1);
+        if (participants == null) {
+            throw new RuntimeException("Event not found with id: " + eventId);
+        }
+        participants += waitlistPromotionService.promote(eventId).getPromoted();
 
-        Event updatedEvent = eventRepository.save(event);
+        Event updatedEvent = getEventById(eventId);
+        updatedEvent.setCurrentParticipants(participants);
 
         log.debug("Event {} participants decremented to {}", eventId, updatedEvent.getCurrentParticipants());
 
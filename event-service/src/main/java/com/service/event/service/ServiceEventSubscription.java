@@ -1,7 +1,10 @@
 package com.service.event.service;
 
+import com.service.event.dto.eventSubscription.WaitlistPromotionDTO;
 import com.service.event.entity.Event;
 import com.service.event.entity.EventSubscription;
+import com.service.event.enums.EventStatus;
+import com.service.event.enums.SeatReservationOutcome;
 import com.service.event.enums.SubscriptionStatus;
 import com.service.event.repository.EventRepository;
 import com.service.event.repository.EventSubscriptionRepository;
@@ -23,40 +26,49 @@ public class ServiceEventSubscription implements IServiceEventSubscription {
 
     private final EventSubscriptionRepository subscriptionRepository;
     private final EventRepository eventRepository;
-    private final IServiceEvent eventService;
+    private final EventSeatReservationService seatReservationService;
+    private final WaitlistPromotionService waitlistPromotionService;
 
     @Override
     public EventSubscription createSubscription(EventSubscription subscription) {
         log.info("Creating subscription for event: {}, user: {}",
                 subscription.getEventId(), subscription.getUserId());
 
-        // Validate event exists and is available for subscription
-        Event event = eventRepository.findById(subscription.getEventId())
-                .orElseThrow(() -> new RuntimeException("Event not found with id: " + subscription.getEventId()));
-
-        if (!event.canRegister()) {
-            throw new RuntimeException("Event is not available for registration");
-        }
-
         // Check if user is already subscribed
         if (subscriptionRepository.existsByEventIdAndUserId(subscription.getEventId(), subscription.getUserId())) {
             throw new RuntimeException("User is already subscribed to this event");
         }
 
-        // Check event capacity
-        if (event.isFull()) {
+        if (subscription.getStatus() == SubscriptionStatus.APPROVED) {
+            // Take the seat first: the reservation checks the event and its capacity atomically
+            SeatReservation reservation = seatReservationService.reserve(subscription.getEventId(), 1, true);
+            if (reservation.outcome() == SeatReservationOutcome.FULL) {
+                // Auto move to waitlist if event is full
+                subscription.setStatus(SubscriptionStatus.WAITLISTED);
+                log.info("Event is full, subscription moved to waitlist");
+            } else if (reservation.outcome() == SeatReservationOutcome.NOT_FOUND) {
+                throw new RuntimeException("Event not found with id: " + subscription.getEventId());
+            } else if (!reservation.isReserved()) {
+                throw new RuntimeException("Event is not available for registration");
+            }
+        } else {
+            // Validate event exists and is available for subscription
+            Event event = eventRepository.findById(subscription.getEventId())
+                    .orElseThrow(() -> new RuntimeException("Event not found with id: " + subscription.getEventId()));
+
+            if (event.getStatus() != EventStatus.ACTIVE || !event.isRegistrationOpen()) {
+                throw new RuntimeException("Event is not available for registration");
+            }
+
             // Auto move to waitlist if event is full
-            subscription.setStatus(SubscriptionStatus.WAITLISTED);
-            log.info("Event is full, subscription moved to waitlist");
+            if (event.isFull()) {
+                subscription.setStatus(SubscriptionStatus.WAITLISTED);
+                log.info("Event is full, subscription moved to waitlist");
+            }
         }
 
         EventSubscription savedSubscription = subscriptionRepository.save(subscription);
 
-        // Update event participant count if approved
-        if (savedSubscription.getStatus() == SubscriptionStatus.APPROVED) {
-            eventService.incrementParticipants(event.getId());
-        }
-
         log.info("Subscription created successfully with ID: {}", savedSubscription.getId());
         return savedSubscription;
     }
@@ -81,20 +93,22 @@ public class ServiceEventSubscription implements IServiceEventSubscription {
 
         EventSubscription subscription = getSubscriptionById(subscriptionId);
 
-        // Check if event still has capacity
-        Event event = eventRepository.findById(subscription.getEventId())
-                .orElseThrow(() -> new RuntimeException("Event not found"));
+        if (subscription.getStatus() == SubscriptionStatus.APPROVED) {
+            throw new RuntimeException("Subscription is already approved");
+        }
 
-        if (event.isFull()) {
+        // Take the seat, only if the event still has capacity
+        SeatReservation reservation = seatReservationService.reserve(subscription.getEventId(), 1, false);
+        if (reservation.outcome() == SeatReservationOutcome.NOT_FOUND) {
+            throw new RuntimeException("Event not found");
+        }
+        if (!reservation.isReserved()) {
             throw new RuntimeException("Event is full, cannot approve subscription");
         }
 
         subscription.approve();
         EventSubscription updatedSubscription = subscriptionRepository.save(subscription);
 
-        // Update event participant count
-        eventService.incrementParticipants(event.getId());
-
         log.info("Subscription {} approved", subscriptionId);
         return updatedSubscription;
     }
@@ -120,15 +134,17 @@ public class ServiceEventSubscription implements IServiceEventSubscription {
             throw new RuntimeException("Subscription cannot be cancelled in current status");
         }
 
+        boolean heldSeat = subscription.getStatus() == SubscriptionStatus.APPROVED;
+
         subscription.cancel(reason);
         EventSubscription updatedSubscription = subscriptionRepository.save(subscription);
 
-        // Decrement event participant count if subscription was approved
-        if (subscription.getStatus() == SubscriptionStatus.APPROVED) {
-            eventService.decrementParticipants(subscription.getEventId());
+        // Give the seat back if subscription was approved
+        if (heldSeat) {
+            seatReservationService.release(subscription.getEventId(), 1);
 
-            // Check if there are waitlisted users to approve
-            approveFirstWaitlisted(subscription.getEventId());
+            // Give the freed seat to the head of the waitlist
+            waitlistPromotionService.promote(subscription.getEventId());
         }
 
         return updatedSubscription;
@@ -224,22 +240,6 @@ public class ServiceEventSubscription implements IServiceEventSubscription {
         return subscriptionRepository.getSubscriptionStatsByEvent();
     }
 
-    // Helper method to approve first waitlisted user when a spot opens
-    private void approveFirstWaitlisted(UUID eventId) {
-        Optional<EventSubscription> firstWaitlisted = subscriptionRepository
-                .findFirstByEventIdAndStatusOrderByCreatedAtAsc(eventId, SubscriptionStatus.WAITLISTED);
-
-        if (firstWaitlisted.isPresent()) {
-            EventSubscription waitlisted = firstWaitlisted.get();
-            waitlisted.setStatus(SubscriptionStatus.APPROVED);
-            waitlisted.setApprovalDate(LocalDateTime.now());
-            subscriptionRepository.save(waitlisted);
-
-            log.info("Auto-approved waitlisted subscription {} for event {}",
-                    waitlisted.getId(), eventId);
-        }
-    }
-
     // Implementing other methods from interface...
     @Override
     public EventSubscription updateSubscription(UUID id, EventSubscription subscription) {
@@ -412,16 +412,9 @@ public class ServiceEventSubscription implements IServiceEventSubscription {
     }
 
     @Override
-    public void moveAllWaitlistedToApproved(UUID eventId) {
-        List<EventSubscription> waitlisted = subscriptionRepository
-                .findByEventIdAndStatus(eventId, SubscriptionStatus.WAITLISTED);
-
-        waitlisted.forEach(subscription -> {
-            subscription.setStatus(SubscriptionStatus.APPROVED);
-            subscription.setApprovalDate(LocalDateTime.now());
-        });
-
-        subscriptionRepository.saveAll(waitlisted);
+    public WaitlistPromotionDTO promoteWaitlisted(UUID eventId) {
+        // Only as many as there are free seats
+        return waitlistPromotionService.promote(eventId);
     }
 
     @Override
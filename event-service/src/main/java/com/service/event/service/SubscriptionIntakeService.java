@@ -0,0 +1,187 @@
+package com.service.event.service;
+
+import com.service.event.dto.eventSubscription.SubscriptionTicketDTO;
+import com.service.event.entity.Event;
+import com.service.event.entity.SubscriptionTicket;
+import com.service.event.enums.SubscriptionTicketStatus;
+import com.service.event.intake.SubscriptionIntakeQueue;
+import com.service.event.intake.SubscriptionRequest;
+import com.service.event.intake.SubscriptionTicketCompletedEvent;
+import com.service.event.repository.EventRepository;
+import com.service.event.repository.SubscriptionTicketRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Asynchronous subscription intake: a request is recorded as a QUEUED ticket and queued, and
+ * the caller gets the ticket right away. The {@link com.service.event.intake.SubscriptionBatchProcessor}
+ * later gives the ticket its final status: PENDING (organizer approval) or WAITLISTED like the
+ * regular path, or APPROVED only when the caller asked for {@code autoApprove}.
+ * <p>
+ * Callers poll the ticket, or long-poll it: the request is held until the ticket is final on
+ * this instance, or until the wait is over. Tickets still QUEUED after
+ * {@code event.intake.requeue-after} (lost in a crash, or never published) are queued again.
+ */
+@Slf4j
+@Service
+public class SubscriptionIntakeService {
+
+    private final SubscriptionTicketRepository ticketRepository;
+    private final EventRepository eventRepository;
+    private final SubscriptionIntakeQueue intakeQueue;
+    private final MeterRegistry meterRegistry;
+    private final Duration maxWait;
+    private final Duration requeueAfter;
+    private final int requeueBatchSize;
+
+    private final Map<UUID, List<DeferredResult<SubscriptionTicketDTO>>> waiters = new ConcurrentHashMap<>();
+
+    public SubscriptionIntakeService(SubscriptionTicketRepository ticketRepository,
+                                     EventRepository eventRepository,
+                                     SubscriptionIntakeQueue intakeQueue,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${event.intake.max-wait:30s}") Duration maxWait,
+                                     @Value("${event.intake.requeue-after:5m}") Duration requeueAfter,
+                                     @Value("${event.intake.requeue-batch-size:500}") int requeueBatchSize) {
+        this.ticketRepository = ticketRepository;
+        this.eventRepository = eventRepository;
+        this.intakeQueue = intakeQueue;
+        this.meterRegistry = meterRegistry;
+        this.maxWait = maxWait;
+        this.requeueAfter = requeueAfter;
+        this.requeueBatchSize = requeueBatchSize;
+    }
+
+    /* =======================
+       INTAKE
+       ======================= */
+
+    public SubscriptionTicketDTO accept(UUID eventId, UUID userId, UUID studentId, boolean autoApprove) {
+        if (autoApprove) {
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
+            if (Boolean.TRUE.equals(event.getRequiresApproval())) {
+                throw new RuntimeException("Event requires approval, its subscriptions cannot be approved automatically");
+            }
+        }
+
+        SubscriptionTicket ticket = new SubscriptionTicket();
+        ticket.setEventId(eventId);
+        ticket.setUserId(userId);
+        ticket.setStudentId(studentId);
+        ticket.setStatus(SubscriptionTicketStatus.QUEUED);
+        ticket.setAutoApprove(autoApprove);
+        ticket = ticketRepository.save(ticket);
+
+        if (!intakeQueue.offer(toRequest(ticket))) {
+            ticket.complete(SubscriptionTicketStatus.REJECTED, null, "Subscription queue is full, retry later");
+            ticketRepository.save(ticket);
+            meterRegistry.counter("event.intake.refused").increment();
+            throw new RuntimeException("Subscription queue is full, retry later");
+        }
+
+        meterRegistry.counter("event.intake.accepted").increment();
+        return toDTO(ticket);
+    }
+
+    /* =======================
+       TICKETS
+       ======================= */
+
+    public SubscriptionTicketDTO getTicket(UUID ticketId) {
+        return ticketRepository.findById(ticketId)
+                .map(this::toDTO)
+                .orElseThrow(() -> new RuntimeException("Ticket not found with id: " + ticketId));
+    }
+
+    /**
+     * The ticket once final, or as it is after {@code wait} (capped by {@code event.intake.max-wait}).
+     */
+    public DeferredResult<SubscriptionTicketDTO> awaitTicket(UUID ticketId, Duration wait) {
+        Duration timeout = wait.compareTo(maxWait) > 0 ? maxWait : wait;
+        SubscriptionTicketDTO current = getTicket(ticketId);
+
+        DeferredResult<SubscriptionTicketDTO> result = new DeferredResult<>(Math.max(timeout.toMillis(), 1));
+        if (current.getStatus().isFinal() || timeout.isZero() || timeout.isNegative()) {
+            result.setResult(current);
+            return result;
+        }
+
+        waiters.compute(ticketId, (id, ticketWaiters) -> {
+            List<DeferredResult<SubscriptionTicketDTO>> registered =
+                    ticketWaiters != null ? ticketWaiters : new CopyOnWriteArrayList<>();
+            registered.add(result);
+            return registered;
+        });
+        result.onTimeout(() -> result.setResult(getTicket(ticketId)));
+        result.onCompletion(() -> waiters.computeIfPresent(ticketId, (id, ticketWaiters) -> {
+            ticketWaiters.remove(result);
+            return ticketWaiters.isEmpty() ? null : ticketWaiters;
+        }));
+
+        // Completed between the read and the registration
+        SubscriptionTicketDTO again = getTicket(ticketId);
+        if (again.getStatus().isFinal()) {
+            result.setResult(again);
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketCompleted(SubscriptionTicketCompletedEvent event) {
+        List<DeferredResult<SubscriptionTicketDTO>> ticketWaiters = waiters.remove(event.ticket().getId());
+        if (ticketWaiters != null) {
+            SubscriptionTicketDTO ticket = toDTO(event.ticket());
+            ticketWaiters.forEach(waiter -> waiter.setResult(ticket));
+        }
+    }
+
+    /* =======================
+       RECOVERY
+       ======================= */
+
+    @Scheduled(initialDelayString = "${event.intake.requeue-interval:1m}",
+            fixedDelayString = "${event.intake.requeue-interval:1m}")
+    public void requeueStaleTickets() {
+        try {
+            List<SubscriptionTicket> stale = ticketRepository.findByStatusAndCreatedAtBeforeOrderByCreatedAtAsc(
+                    SubscriptionTicketStatus.QUEUED, LocalDateTime.now().minus(requeueAfter),
+                    PageRequest.of(0, requeueBatchSize));
+
+            // Processing skips tickets that are final by then, so a ticket queued twice is harmless
+            long requeued = stale.stream().filter(ticket -> intakeQueue.offer(toRequest(ticket))).count();
+            if (requeued > 0) {
+                log.warn("Requeued {} stale subscription tickets", requeued);
+                meterRegistry.counter("event.intake.requeued").increment(requeued);
+            }
+        } catch (Exception e) {
+            log.error("Requeueing stale subscription tickets failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private SubscriptionRequest toRequest(SubscriptionTicket ticket) {
+        return new SubscriptionRequest(ticket.getId(), ticket.getEventId(), ticket.getUserId(),
+                ticket.getStudentId(), ticket.getCreatedAt());
+    }
+
+    private SubscriptionTicketDTO toDTO(SubscriptionTicket ticket) {
+        return new SubscriptionTicketDTO(ticket.getId(), ticket.getEventId(), ticket.getUserId(),
+                ticket.getStudentId(), ticket.getStatus(), ticket.getSubscriptionId(), ticket.getMessage(),
+                ticket.getCreatedAt(), ticket.getProcessedAt());
+    }
+}
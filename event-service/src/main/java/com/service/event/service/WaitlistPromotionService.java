@@ -0,0 +1,225 @@
+package com.service.event.service;
+
+import com.service.event.dto.eventSubscription.WaitlistPromotionDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Promotes WAITLISTED subscriptions when seats free up.
+ * <p>
+ * The waitlist of an event is its WAITLISTED subscriptions in creation order. A promotion
+ * takes as many free seats as there are waitlisted entries with one conditional capacity
+ * update, then approves that many entries from the head of the waitlist with one bulk
+ * UPDATE, in the caller's transaction. Entries promoted concurrently by another transaction
+ * are skipped by the row locks of the bulk update, and the seats they would have taken are
+ * given back.
+ * <p>
+ * Promotions run when a seat is released or the capacity grows, and a scheduled reconcile
+ * promotes on events that have free seats and a waitlist for any other reason. Waitlist depth
+ * ({@code event.waitlist.depth}) and promotion latency ({@code event.waitlist.promotion.latency},
+ * from subscription to promotion) are published per event, and dropped with the event's entry
+ * once the reconcile finds its waitlist empty.
+ */
+@Slf4j
+@Service
+public class WaitlistPromotionService {
+
+    private static final String WAITLIST_DEPTH_SQL = """
+            SELECT COUNT(*)
+            FROM event_schema.event_subscriptions
+            WHERE event_id = :eventId
+              AND status = 'WAITLISTED'
+            """;
+
+    // Head of the waitlist, locked: rows promoted meanwhile are re-checked and left out
+    private static final String PROMOTE_SQL = """
+            UPDATE event_schema.event_subscriptions s
+            SET status = 'APPROVED',
+                approval_date = :now,
+                updated_at = :now
+            FROM (
+                SELECT id
+                FROM event_schema.event_subscriptions
+                WHERE event_id = :eventId
+                  AND status = 'WAITLISTED'
+                ORDER BY created_at, id
+                LIMIT :seats
+                FOR UPDATE
+            ) head
+            WHERE s.id = head.id
+              AND s.status = 'WAITLISTED'
+            RETURNING s.id, s.created_at
+            """;
+
+    private static final String WAITLIST_DEPTHS_SQL = """
+            SELECT event_id, COUNT(*) AS depth
+            FROM event_schema.event_subscriptions
+            WHERE status = 'WAITLISTED'
+            GROUP BY event_id
+            """;
+
+    private static final String PROMOTABLE_EVENTS_SQL = """
+            SELECT DISTINCT s.event_id
+            FROM event_schema.event_subscriptions s
+            JOIN event_schema.events e ON e.id = s.event_id
+            WHERE s.status = 'WAITLISTED'
+              AND (e.max_participants IS NULL OR COALESCE(e.current_participants, 0) < e.max_participants)
+            """;
+
+    // Registered per event, removed with its depths entry
+    private static final List<String> EVENT_METERS = List.of(
+            "event.waitlist.depth", "event.waitlist.promotion.latency", "event.waitlist.promotions");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EventSeatReservationService seatReservationService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean scheduledReconcileEnabled;
+
+    private final Map<UUID, AtomicLong> depths = new ConcurrentHashMap<>();
+
+    public WaitlistPromotionService(NamedParameterJdbcTemplate jdbcTemplate,
+                                    EventSeatReservationService seatReservationService,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${event.waitlist.reconcile.enabled:true}") boolean scheduledReconcileEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.seatReservationService = seatReservationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.scheduledReconcileEnabled = scheduledReconcileEnabled;
+    }
+
+    /* =======================
+       PROMOTION
+       ======================= */
+
+    /**
+     * Promotes as many waitlisted subscriptions of the event as it has free seats, first come
+     * first served.
+     */
+    @Transactional
+    public WaitlistPromotionDTO promote(UUID eventId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("eventId", eventId);
+        long waitlisted = jdbcTemplate.queryForObject(WAITLIST_DEPTH_SQL, params, Long.class);
+        if (waitlisted == 0) {
+            updateDepth(eventId, 0);
+            return new WaitlistPromotionDTO(eventId, 0, 0, List.of());
+        }
+
+        SeatReservation reservation = seatReservationService.reserveUpTo(eventId, Math.toIntExact(waitlisted), false);
+        if (reservation.reserved() == 0) {
+            updateDepth(eventId, waitlisted);
+            return new WaitlistPromotionDTO(eventId, 0, waitlisted, List.of());
+        }
+
+        // Tracked before its other meters are registered, so the reconcile removes them too
+        updateDepth(eventId, waitlisted);
+        LocalDateTime now = LocalDateTime.now();
+        params.addValue("seats", reservation.reserved())
+                .addValue("now", Timestamp.valueOf(now));
+
+        List<UUID> promoted = new ArrayList<>();
+        Timer latency = Timer.builder("event.waitlist.promotion.latency")
+                .tag("eventId", eventId.toString())
+                .register(meterRegistry);
+        jdbcTemplate.query(PROMOTE_SQL, params, rs -> {
+            promoted.add(rs.getObject("id", UUID.class));
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            if (createdAt != null) {
+                latency.record(Duration.between(createdAt.toLocalDateTime(), now));
+            }
+        });
+
+        // Promoted meanwhile by another transaction: their seats were taken there
+        int unused = reservation.reserved() - promoted.size();
+        if (unused > 0) {
+            seatReservationService.release(eventId, unused);
+        }
+
+        long remaining = waitlisted - promoted.size();
+        updateDepth(eventId, remaining);
+        meterRegistry.counter("event.waitlist.promotions", "eventId", eventId.toString()).increment(promoted.size());
+        log.info("Promoted {} waitlisted subscriptions of event {}, {} still waitlisted", promoted.size(), eventId, remaining);
+        return new WaitlistPromotionDTO(eventId, promoted.size(), remaining, promoted);
+    }
+
+    /* =======================
+       RECONCILE
+       ======================= */
+
+    @Scheduled(initialDelayString = "${event.waitlist.reconcile.initial-delay:30s}",
+            fixedDelayString = "${event.waitlist.reconcile.interval:1m}")
+    public void scheduledReconcile() {
+        if (!scheduledReconcileEnabled) {
+            return;
+        }
+        try {
+            List<UUID> promotable = jdbcTemplate.queryForList(PROMOTABLE_EVENTS_SQL, Map.of(), UUID.class);
+            for (UUID eventId : promotable) {
+                transactionTemplate.executeWithoutResult(status -> promote(eventId));
+            }
+            refreshDepths();
+        } catch (Exception e) {
+            log.error("Waitlist reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void refreshDepths() {
+        Map<UUID, Long> current = new HashMap<>();
+        jdbcTemplate.query(WAITLIST_DEPTHS_SQL, Map.of(), rs -> {
+            current.put(rs.getObject("event_id", UUID.class), rs.getLong("depth"));
+        });
+        current.forEach(this::updateDepth);
+
+        // Waitlist emptied since the last run: its meters would otherwise stay registered forever
+        for (UUID eventId : depths.keySet()) {
+            if (!current.containsKey(eventId)) {
+                depths.computeIfPresent(eventId, (id, depth) -> {
+                    EVENT_METERS.forEach(name -> meterRegistry.find(name).tag("eventId", id.toString())
+                            .meters().forEach(meterRegistry::remove));
+                    return null;
+                });
+            }
+        }
+    }
+
+    private void updateDepth(UUID eventId, long depth) {
+        if (depth == 0) {
+            // Not tracked yet: no gauge for an event without a waitlist
+            AtomicLong value = depths.get(eventId);
+            if (value != null) {
+                value.set(0);
+            }
+            return;
+        }
+        depths.computeIfAbsent(eventId, id -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("event.waitlist.depth", value, AtomicLong::get)
+                    .tag("eventId", id.toString())
+                    .register(meterRegistry);
+            return value;
+        }).set(depth);
+    }
+}
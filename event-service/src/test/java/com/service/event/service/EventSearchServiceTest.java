@@ -0,0 +1,28 @@
+package com.service.event.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSearchServiceTest {
+
+    @Test
+    void everyKeywordBecomesARequiredPrefix() {
+        assertThat(EventSearchService.toTsQuery("Java Spring")).isEqualTo("java:* & spring:*");
+        assertThat(EventSearchService.toTsQuery("hack hack-a-thon")).isEqualTo("hack:* & a:* & thon:*");
+        assertThat(EventSearchService.toTsQuery("Hackathon 2025 Sfax")).isEqualTo("hackathon:* & 2025:* & sfax:*");
+    }
+
+    @Test
+    void tsqueryOperatorsInTheInputAreDropped() {
+        assertThat(EventSearchService.toTsQuery("java | !spring & (boot:*)")).isEqualTo("java:* & spring:* & boot:*");
+        assertThat(EventSearchService.toTsQuery("' OR 1=1 --")).isEqualTo("or:* & 1:*");
+    }
+
+    @Test
+    void noKeywordGivesNoQuery() {
+        assertThat(EventSearchService.toTsQuery(null)).isNull();
+        assertThat(EventSearchService.toTsQuery("   ")).isNull();
+        assertThat(EventSearchService.toTsQuery("&|!:*")).isNull();
+    }
+}
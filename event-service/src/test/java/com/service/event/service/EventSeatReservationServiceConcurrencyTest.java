@@ -0,0 +1,199 @@
+package com.service.event.service;
+
+import com.service.event.enums.SeatReservationOutcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Hundreds of parallel registrations on one event must never take more seats than its
+ * capacity. Runs against a throwaway PostgreSQL container (same image as docker-compose),
+ * so it needs Docker; without it the tests are skipped.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class EventSeatReservationServiceConcurrencyTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    private static final int CAPACITY = 50;
+    private static final int REGISTRATIONS = 500;
+    private static final int THREADS = 32;
+
+    private JdbcTemplate jdbcTemplate;
+    private EventSeatReservationService seatReservationService;
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        seatReservationService = new EventSeatReservationService(
+                new NamedParameterJdbcTemplate(jdbcTemplate), new SimpleMeterRegistry());
+
+        // Only the columns this test needs
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS event_schema");
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS event_schema.events (
+                    id                    UUID PRIMARY KEY,
+                    title                 VARCHAR(200) NOT NULL,
+                    location              VARCHAR(500) NOT NULL,
+                    start_date            DATE         NOT NULL,
+                    end_date              DATE         NOT NULL,
+                    status                VARCHAR(20)  NOT NULL DEFAULT 'DRAFT',
+                    max_participants      INTEGER,
+                    current_participants  INTEGER DEFAULT 0,
+                    organizer_id          UUID         NOT NULL,
+                    registration_deadline TIMESTAMP,
+                    updated_at            TIMESTAMP
+                )""");
+
+        eventId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO event_schema.events
+                    (id, title, location, start_date, end_date, status, max_participants, current_participants, organizer_id)
+                VALUES (?, 'Seat reservation stress test', 'Test', CURRENT_DATE + 30, CURRENT_DATE + 30, 'ACTIVE', ?, 0, ?)
+                """, eventId, CAPACITY, UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM event_schema.events WHERE id = ?", eventId);
+    }
+
+    @Test
+    void parallelRegistrationsNeverOverbook() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<SeatReservation>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return seatReservationService.reserve(eventId, 1, true);
+                }));
+            }
+            start.countDown();
+
+            Map<SeatReservationOutcome, Integer> outcomes = new EnumMap<>(SeatReservationOutcome.class);
+            for (Future<SeatReservation> future : futures) {
+                SeatReservation reservation = future.get(60, TimeUnit.SECONDS);
+                outcomes.merge(reservation.outcome(), 1, Integer::sum);
+                assertTrue(reservation.currentParticipants() <= CAPACITY,
+                        "Reported " + reservation.currentParticipants() + " participants");
+            }
+
+            assertEquals(CAPACITY, outcomes.getOrDefault(SeatReservationOutcome.RESERVED, 0));
+            assertEquals(REGISTRATIONS - CAPACITY, outcomes.getOrDefault(SeatReservationOutcome.FULL, 0));
+            assertEquals(CAPACITY, currentParticipants());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void releasedSeatsCanBeTakenAgainWithoutOverbooking() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        try {
+            // Every task takes a seat and, if it got one, gives it back half of the time
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                boolean cancel = i % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    boolean reserved = seatReservationService.reserve(eventId, 1, true).isReserved();
+                    if (reserved && cancel) {
+                        seatReservationService.release(eventId, 1);
+                        return false;
+                    }
+                    return reserved;
+                }));
+            }
+            start.countDown();
+
+            int kept = 0;
+            for (Future<Boolean> future : futures) {
+                if (future.get(60, TimeUnit.SECONDS)) {
+                    kept++;
+                }
+            }
+
+            assertTrue(kept <= CAPACITY, kept + " seats kept");
+            assertEquals(kept, currentParticipants());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void parallelBatchReservationsShareTheLastSeats() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<SeatReservation>> futures = new ArrayList<>();
+        try {
+            // Batches of 7 do not divide the capacity: one of them only gets the remainder
+            for (int i = 0; i < REGISTRATIONS / 7; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return seatReservationService.reserveUpTo(eventId, 7, true);
+                }));
+            }
+            start.countDown();
+
+            int reserved = 0;
+            for (Future<SeatReservation> future : futures) {
+                SeatReservation reservation = future.get(60, TimeUnit.SECONDS);
+                assertEquals(reservation.reserved() > 0 ? SeatReservationOutcome.RESERVED : SeatReservationOutcome.FULL,
+                        reservation.outcome());
+                reserved += reservation.reserved();
+            }
+
+            assertEquals(CAPACITY, reserved);
+            assertEquals(CAPACITY, currentParticipants());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void reportsWhyNothingWasReserved() {
+        jdbcTemplate.update("UPDATE event_schema.events SET status = 'DRAFT' WHERE id = ?", eventId);
+        assertEquals(SeatReservationOutcome.NOT_OPEN, seatReservationService.reserve(eventId, 1, true).outcome());
+        assertTrue(seatReservationService.reserve(eventId, 1, false).isReserved());
+
+        jdbcTemplate.update("UPDATE event_schema.events SET status = 'ACTIVE', registration_deadline = now() - interval '1 day' WHERE id = ?", eventId);
+        assertEquals(SeatReservationOutcome.REGISTRATION_CLOSED, seatReservationService.reserve(eventId, 1, true).outcome());
+
+        assertEquals(SeatReservationOutcome.FULL, seatReservationService.reserve(eventId, CAPACITY, false).outcome());
+        assertEquals(SeatReservationOutcome.NOT_FOUND, seatReservationService.reserve(UUID.randomUUID(), 1, true).outcome());
+        assertEquals(1, currentParticipants());
+    }
+
+    private int currentParticipants() {
+        return jdbcTemplate.queryForObject(
+                "SELECT current_participants FROM event_schema.events WHERE id = ?", Integer.class, eventId);
+    }
+}
@@ -97,6 +97,21 @@ CREATE TABLE event_subscriptions
     UNIQUE (event_id, student_id)
 );
 
+-- Subscription requests accepted asynchronously, until processed
+CREATE TABLE subscription_tickets
+(
+    id              UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    event_id        UUID        NOT NULL,
+    user_id         UUID        NOT NULL,
+    student_id      UUID        NOT NULL,
+    status          VARCHAR(20) NOT NULL DEFAULT 'QUEUED',
+    auto_approve    BOOLEAN     NOT NULL DEFAULT FALSE,
+    subscription_id UUID,
+    message         VARCHAR(500),
+    created_at      TIMESTAMP            DEFAULT CURRENT_TIMESTAMP,
+    processed_at    TIMESTAMP
+);
+
 -- Generate real random UUIDs for categories
 DO $$
 DECLARE
@@ -330,6 +345,15 @@ CREATE INDEX idx_events_is_featured ON events (is_featured) WHERE is_featured =
 CREATE INDEX idx_events_slug ON events (slug);
 CREATE INDEX idx_events_created_by ON events (created_by);
 
+-- Search: weighted full-text document per event, kept up to date by every write of its columns
+ALTER TABLE events ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(tags, '') || ' ' || coalesce(category, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(location, '')), 'C') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'D')
+) STORED;
+CREATE INDEX idx_events_search ON events USING gin (search_vector);
+
 CREATE INDEX idx_event_subscriptions_event ON event_subscriptions (event_id);
 CREATE INDEX idx_event_subscriptions_user ON event_subscriptions (user_id);
 CREATE INDEX idx_event_subscriptions_student ON event_subscriptions (student_id);
@@ -337,6 +361,9 @@ CREATE INDEX idx_event_subscriptions_status ON event_subscriptions (status);
 CREATE INDEX idx_event_subscriptions_payment ON event_subscriptions (payment_status);
 CREATE INDEX idx_event_subscriptions_check_in_code ON event_subscriptions (check_in_code);
 CREATE INDEX idx_event_subscriptions_created_by ON event_subscriptions (created_by);
+CREATE INDEX idx_event_subscriptions_waitlist ON event_subscriptions (event_id, created_at, id) WHERE status = 'WAITLISTED';
+
+CREATE INDEX idx_subscription_tickets_queued ON subscription_tickets (created_at) WHERE status = 'QUEUED';
 
 -- Create views for common queries
 CREATE VIEW event_summary_view AS
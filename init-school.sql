@@ -282,6 +282,19 @@ CREATE INDEX idx_schools_verified ON schools (verified) WHERE verified = TRUE;
 CREATE INDEX idx_schools_created_by ON schools (created_by);
 CREATE INDEX idx_schools_slug ON schools (slug);
 CREATE INDEX idx_schools_is_active ON schools (is_active) WHERE is_active = TRUE;
+-- Bounding-box prefilter of the geo search (latitude range first, longitude checked in the index)
+CREATE INDEX idx_schools_location ON schools (latitude, longitude)
+    WHERE status = 'ACTIVE' AND latitude IS NOT NULL AND longitude IS NOT NULL;
+-- Candidate lookups of the scheduled accreditation and inactivity sweeps
+CREATE INDEX idx_schools_accreditation_expiry ON schools (accreditation_expiry_date)
+    WHERE accreditation_expiry_date IS NOT NULL;
+CREATE INDEX idx_schools_active_updated_at ON schools (updated_at) WHERE is_active = TRUE;
+-- Paginated listing: the common filter combinations followed by the (name, id) keyset,
+-- so a page is read in index order without sorting the matching rows
+CREATE INDEX idx_schools_status_country_city_name ON schools (status, country, city, name, id);
+CREATE INDEX idx_schools_status_type_name ON schools (status, type, name, id);
+CREATE INDEX idx_schools_country_name ON schools (country, name, id);
+CREATE INDEX idx_schools_name_id ON schools (name, id);
 
 -- Create a view for active schools summary
 CREATE VIEW active_schools_summary AS
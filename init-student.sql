@@ -70,7 +70,9 @@ CREATE TABLE students (
                           updated_by BIGINT,
                           user_sync_status VARCHAR(20) DEFAULT 'PENDING',
                           advisor_sync_status VARCHAR(20) DEFAULT 'PENDING',
-                          last_sync_attempt TIMESTAMP
+                          last_sync_attempt TIMESTAMP,
+                          sync_attempts INTEGER DEFAULT 0,
+                          next_sync_at TIMESTAMP
 );
 
 -- Insert sample students with proper UUIDs
@@ -354,6 +356,38 @@ CREATE INDEX idx_students_country ON students(country);
 CREATE INDEX idx_students_gpa ON students(gpa);
 CREATE INDEX idx_students_enrollment_year ON students(enrollment_year);
 
+-- Keyset pagination on (created_at, id), alone and behind the most common filters
+CREATE INDEX idx_students_created_at_id ON students(created_at, id);
+CREATE INDEX idx_students_school_created_at_id ON students(school_id, created_at, id);
+CREATE INDEX idx_students_status_created_at_id ON students(enrollment_status, created_at, id);
+
+-- Search: one lower-cased document per student, trigram-indexed for substring and typo-tolerant matching
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+ALTER TABLE students ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+    lower(coalesce(first_name, '') || ' ' || coalesce(last_name, '') || ' ' || coalesce(full_name, '') || ' ' ||
+          coalesce(student_code, '') || ' ' || coalesce(program, '') || ' ' || coalesce(major, ''))
+) STORED;
+CREATE INDEX idx_students_search_trgm ON students USING gin (search_text public.gin_trgm_ops);
+
+-- Sync reconciler: only rows still waiting for a user/advisor sync, in keyset order
+CREATE INDEX idx_students_sync_pending ON students(id)
+    WHERE user_sync_status <> 'SYNCED' OR advisor_sync_status <> 'SYNCED';
+
+-- Checkpoints of the chunked maintenance jobs
+CREATE TABLE job_checkpoints (
+    job_name VARCHAR(50) PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    parameters VARCHAR(200),
+    last_id UUID,
+    rows_scanned BIGINT NOT NULL DEFAULT 0,
+    rows_updated BIGINT NOT NULL DEFAULT 0,
+    chunks BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    last_error VARCHAR(500)
+);
+
 -- Create a view for active students
 CREATE OR REPLACE VIEW active_students AS
 SELECT
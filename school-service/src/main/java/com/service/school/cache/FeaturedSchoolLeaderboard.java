@@ -0,0 +1,182 @@
+package com.service.school.cache;
+
+import com.service.school.entity.School;
+import com.service.school.enums.SchoolStatus;
+import com.service.school.listener.SchoolChangedEvent;
+import com.service.school.repository.SchoolRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The top featured schools (ranking first, then most students), precomputed so the homepage
+ * widget is served from memory.
+ * <p>
+ * The board is reloaded after commit of any JPA write that touches a featured school, or
+ * makes one featured (see {@link SchoolChangedEvent}). Counter changes only mark it dirty:
+ * they can come in bursts, so a short scheduled refresh reloads it at most once per
+ * {@code school.featured.leaderboard.refresh-interval}. A scheduled reconcile reloads it
+ * regardless, which also picks up writes made by other instances.
+ */
+@Slf4j
+@Component
+public class FeaturedSchoolLeaderboard {
+
+    private final SchoolRepository schoolRepository;
+    private final TransactionTemplate readTransaction;
+    private final MeterRegistry meterRegistry;
+    private final int capacity;
+    private final boolean scheduledReconcileEnabled;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    // Replaced as a whole on every reload, read without locking
+    private volatile Board board;
+
+    public FeaturedSchoolLeaderboard(SchoolRepository schoolRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${school.featured.leaderboard.size:50}") int capacity,
+                                     @Value("${school.featured.leaderboard.reconcile.enabled:true}") boolean scheduledReconcileEnabled) {
+        this.schoolRepository = schoolRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.capacity = capacity;
+        this.scheduledReconcileEnabled = scheduledReconcileEnabled;
+    }
+
+    /* =======================
+       READS
+       ======================= */
+
+    /**
+     * The {@code limit} best featured schools. Limits above the board size go to the database.
+     */
+    public List<School> getTop(int limit) {
+        if (limit > capacity) {
+            meterRegistry.counter("school.featured.leaderboard.reads", "source", "database").increment();
+            return schoolRepository.findTopFeaturedSchools(limit);
+        }
+
+        Board current = board;
+        if (current == null) {
+            current = refresh();
+        }
+        meterRegistry.counter("school.featured.leaderboard.reads", "source", "memory").increment();
+        List<School> top = current.top();
+        return top.size() > limit ? top.subList(0, Math.max(limit, 0)) : top;
+    }
+
+    /* =======================
+       CHANGES
+       ======================= */
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSchoolChanged(SchoolChangedEvent event) {
+        Board current = board;
+        if (current == null) {
+            return;
+        }
+        School school = event.school();
+        boolean featuredNow = !event.removed()
+                && Boolean.TRUE.equals(school.getIsFeatured())
+                && school.getStatus() == SchoolStatus.ACTIVE;
+        if (featuredNow || current.featuredIds().contains(school.getId())) {
+            refresh();
+        }
+    }
+
+    /**
+     * Called when the student or teacher counters of {@code schoolIds} change. The board is
+     * marked dirty once the change commits, if one of them is featured.
+     */
+    public void onCountersChanged(Collection<UUID> schoolIds) {
+        Board current = board;
+        if (current == null || schoolIds.stream().noneMatch(current.featuredIds()::contains)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirty.set(true);
+                }
+            });
+        } else {
+            dirty.set(true);
+        }
+    }
+
+    /* =======================
+       REFRESH
+       ======================= */
+
+    @Scheduled(initialDelayString = "${school.featured.leaderboard.refresh-interval:2s}",
+            fixedDelayString = "${school.featured.leaderboard.refresh-interval:2s}")
+    public void refreshIfDirty() {
+        if (!dirty.get()) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("Featured school leaderboard refresh failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${school.featured.leaderboard.reconcile.initial-delay:10s}",
+            fixedDelayString = "${school.featured.leaderboard.reconcile.interval:10m}")
+    public void scheduledReconcile() {
+        if (!scheduledReconcileEnabled) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("Featured school leaderboard reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reloads the board from the database, in its own read-only transaction.
+     */
+    public synchronized Board refresh() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        // Cleared first: a change committing during the reload marks it dirty again
+        dirty.set(false);
+
+        Board fresh = readTransaction.execute(status -> new Board(
+                List.copyOf(schoolRepository.findTopFeaturedSchools(capacity)),
+                Set.copyOf(schoolRepository.findActiveFeaturedIds())));
+        board = fresh;
+
+        sample.stop(meterRegistry.timer("school.featured.leaderboard.refresh.duration"));
+        log.debug("Featured school leaderboard reloaded: {} of {} featured schools", fresh.top().size(), fresh.featuredIds().size());
+        return fresh;
+    }
+
+    /**
+     * The best featured schools, and the ids of every featured school, which decide whether
+     * a change can affect the board.
+     */
+    public record Board(List<School> top, Set<UUID> featuredIds) {
+    }
+}
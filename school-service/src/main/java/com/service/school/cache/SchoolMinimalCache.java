@@ -0,0 +1,163 @@
+package com.service.school.cache;
+
+import com.service.school.listener.SchoolChangedEvent;
+import com.service.school.repository.SchoolRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, in-process cache of the minimal school view, the read path of the
+ * {@code /minimal} endpoints called by the other services on every enrichment.
+ * <p>
+ * Misses load only the minimal columns. Entries are dropped as soon as a write to the school
+ * commits (see {@link SchoolChangedEvent}) and expire after a TTL as a safety net for writes
+ * made by other instances.
+ */
+@Slf4j
+@Component
+public class SchoolMinimalCache {
+
+    private final SchoolRepository schoolRepository;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    // Guarded by "this", in LRU order
+    private final LinkedHashMap<UUID, Entry> entries;
+    // Bumped by every invalidation, so a load racing with a write does not cache the old row
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public SchoolMinimalCache(SchoolRepository schoolRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${school.minimal-cache.max-size:10000}") int maxSize,
+                              @Value("${school.minimal-cache.ttl:10m}") Duration ttl) {
+        this.schoolRepository = schoolRepository;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > SchoolMinimalCache.this.maxSize;
+            }
+        };
+
+        FunctionCounter.builder("school.minimal-cache.hits", hits, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("school.minimal-cache.misses", misses, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("school.minimal-cache.invalidations", invalidations, LongAdder::sum).register(meterRegistry);
+        meterRegistry.gauge("school.minimal-cache.size", this, SchoolMinimalCache::size);
+    }
+
+    /* =======================
+       READS
+       ======================= */
+
+    public Optional<SchoolMinimalSnapshot> get(UUID id) {
+        SchoolMinimalSnapshot cached = getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long loadGeneration = currentGeneration();
+        Optional<SchoolMinimalSnapshot> loaded = schoolRepository.findMinimalById(id);
+        loaded.ifPresent(snapshot -> put(snapshot, loadGeneration));
+        return loaded;
+    }
+
+    /**
+     * The snapshots of the known ids, in the order of {@code ids}; misses are loaded with one query.
+     */
+    public List<SchoolMinimalSnapshot> getAll(Collection<UUID> ids) {
+        Map<UUID, SchoolMinimalSnapshot> found = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            if (found.containsKey(id)) continue;
+            SchoolMinimalSnapshot cached = getIfPresent(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long loadGeneration = currentGeneration();
+            for (SchoolMinimalSnapshot snapshot : schoolRepository.findMinimalByIdIn(missing)) {
+                found.put(snapshot.id(), snapshot);
+                put(snapshot, loadGeneration);
+            }
+        }
+
+        List<SchoolMinimalSnapshot> result = new ArrayList<>(found.size());
+        for (UUID id : new LinkedHashSet<>(ids)) {
+            SchoolMinimalSnapshot snapshot = found.get(id);
+            if (snapshot != null) result.add(snapshot);
+        }
+        return result;
+    }
+
+    private synchronized SchoolMinimalSnapshot getIfPresent(UUID id) {
+        Entry entry = entries.get(id);
+        if (entry == null || System.nanoTime() - entry.loadedAt() > ttlNanos) {
+            if (entry != null) entries.remove(id);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.snapshot();
+    }
+
+    private synchronized void put(SchoolMinimalSnapshot snapshot, long loadGeneration) {
+        if (generation != loadGeneration) {
+            // Something was written while loading, the next read reloads
+            return;
+        }
+        entries.put(snapshot.id(), new Entry(snapshot, System.nanoTime()));
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    /* =======================
+       INVALIDATION
+       ======================= */
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSchoolChanged(SchoolChangedEvent event) {
+        invalidate(event.school().getId());
+    }
+
+    public synchronized void invalidate(UUID id) {
+        generation++;
+        invalidations.increment();
+        entries.remove(id);
+        log.debug("Invalidated minimal cache entry of school {}", id);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry(SchoolMinimalSnapshot snapshot, long loadedAt) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.service.school.cache;
+
+import com.service.school.dto.SchoolMinimalDTO;
+import com.service.school.enums.SchoolType;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * The columns of the minimal school view, loaded without the rest of the row, and the
+ * {@code updatedAt} its ETag is derived from.
+ */
+public record SchoolMinimalSnapshot(UUID id,
+                                    String name,
+                                    String slug,
+                                    String logoUrl,
+                                    SchoolType type,
+                                    Boolean isActive,
+                                    String city,
+                                    String country,
+                                    LocalDateTime updatedAt) {
+
+    public SchoolMinimalDTO toDTO() {
+        return new SchoolMinimalDTO(id, name, slug, logoUrl, type, isActive, city, country);
+    }
+
+    /**
+     * Strong ETag (quoted) identifying this version of the school.
+     */
+    public String etag() {
+        if (updatedAt == null) {
+            return "\"" + id + "\"";
+        }
+        long micros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+        return "\"" + id + "-" + Long.toHexString(micros) + "\"";
+    }
+}
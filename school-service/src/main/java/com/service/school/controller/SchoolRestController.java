@@ -1,20 +1,37 @@
 package com.service.school.controller;
 
+import com.service.school.cache.SchoolMinimalSnapshot;
+import com.service.school.dto.SchoolCounterBatchResultDTO;
+import com.service.school.dto.SchoolCounterDeltaDTO;
 import com.service.school.dto.SchoolDTO;
+import com.service.school.dto.SchoolDistanceDTO;
+import com.service.school.dto.SchoolFilterDTO;
 import com.service.school.dto.SchoolMinimalDTO;
+import com.service.school.dto.SchoolPageDTO;
 import com.service.school.dto.SchoolResponseDTO;
+import com.service.school.dto.SchoolSearchHitDTO;
+import com.service.school.dto.SchoolSearchResultDTO;
+import com.service.school.dto.SchoolStatsDTO;
+import com.service.school.dto.SchoolSweepReportDTO;
 import com.service.school.dto.UpdateSchoolDTO;
 import com.service.school.entity.School;
 import com.service.school.enums.SchoolStatus;
+import com.service.school.enums.SchoolSweepJob;
 import com.service.school.enums.SchoolType;
 import com.service.school.service.IServiceSchool;
+import com.service.school.service.SchoolDistance;
+import com.service.school.service.SchoolSearchResult;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -43,6 +60,24 @@ public class SchoolRestController {
         return ResponseEntity.ok(responseDTO);
     }
 
+    // Paginated listing: filters are combined with AND, pass nextCursor back to get the next page
+    @GetMapping("/page")
+    public ResponseEntity<SchoolPageDTO> getSchoolsPage(
+            @RequestParam(required = false) SchoolType type,
+            @RequestParam(required = false) SchoolStatus status,
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Boolean featured,
+            @RequestParam(required = false) Boolean verified,
+            @RequestParam(required = false) Boolean isPublic,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        SchoolFilterDTO filter = new SchoolFilterDTO(type, status, country, city, featured, verified, isPublic, active);
+        return ResponseEntity.ok(schoolService.getSchoolsPage(filter, cursor, size));
+    }
+
     @GetMapping("/slug/{slug}")
     public ResponseEntity<SchoolResponseDTO> getSchoolBySlug(@PathVariable String slug) {
         School school = schoolService.getSchoolBySlug(slug)
@@ -101,14 +136,29 @@ public class SchoolRestController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<SchoolResponseDTO>> searchSchools(@RequestParam String keyword) {
-        List<School> schools = schoolService.searchSchools(keyword);
-        List<SchoolResponseDTO> responseDTOs = schools.stream()
-                .map(school -> modelMapper.map(school, SchoolResponseDTO.class))
+    public ResponseEntity<List<SchoolResponseDTO>> searchSchools(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        SchoolSearchResult result = schoolService.searchSchools(keyword, page, size);
+        List<SchoolResponseDTO> responseDTOs = result.matches().stream()
+                .map(match -> modelMapper.map(match.school(), SchoolResponseDTO.class))
                 .collect(Collectors.toList());
         return ResponseEntity.ok(responseDTOs);
     }
 
+    @GetMapping("/search/ranked")
+    public ResponseEntity<SchoolSearchResultDTO> searchSchoolsRanked(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        SchoolSearchResult result = schoolService.searchSchools(keyword, page, size);
+        List<SchoolSearchHitDTO> items = result.matches().stream()
+                .map(match -> new SchoolSearchHitDTO(modelMapper.map(match.school(), SchoolResponseDTO.class), match.score()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(new SchoolSearchResultDTO(items, result.total(), page, size));
+    }
+
     @GetMapping("/featured")
     public ResponseEntity<List<SchoolResponseDTO>> getFeaturedSchools(
             @RequestParam(defaultValue = "10") int limit) {
@@ -165,6 +215,23 @@ public class SchoolRestController {
         return ResponseEntity.ok(responseDTO);
     }
 
+    // Applies a whole batch of enrolments (or removals) in one call, e.g. after a bulk student import
+    @PostMapping("/{id}/student-count/adjust")
+    public ResponseEntity<SchoolResponseDTO> adjustStudentCount(
+            @PathVariable UUID id,
+            @RequestParam int delta) {
+        School school = schoolService.adjustStudentCount(id, delta);
+        SchoolResponseDTO responseDTO = modelMapper.map(school, SchoolResponseDTO.class);
+        return ResponseEntity.ok(responseDTO);
+    }
+
+    // Counter changes of many schools in one call, e.g. from student-service after a bulk import
+    @PostMapping("/counters/batch")
+    public ResponseEntity<SchoolCounterBatchResultDTO> applyCounterDeltas(
+            @RequestBody List<SchoolCounterDeltaDTO> deltas) {
+        return ResponseEntity.ok(schoolService.applyCounterDeltas(deltas));
+    }
+
     @GetMapping("/public")
     public ResponseEntity<List<SchoolResponseDTO>> getPublicSchools() {
         List<School> schools = schoolService.getPublicSchools();
@@ -183,6 +250,12 @@ public class SchoolRestController {
         return ResponseEntity.ok(responseDTOs);
     }
 
+    // Every dashboard figure in one call, at most school.stats.max-staleness old
+    @GetMapping("/stats")
+    public ResponseEntity<SchoolStatsDTO> getSchoolStats() {
+        return ResponseEntity.ok(schoolService.getSchoolStats());
+    }
+
     @GetMapping("/stats/total")
     public ResponseEntity<Long> getTotalSchoolsCount() {
         Long count = schoolService.getTotalSchoolsCount();
@@ -267,8 +340,82 @@ public class SchoolRestController {
         return ResponseEntity.ok(responseDTOs);
     }
 
+    // Same search with the distance of each school, nearest first
+    @GetMapping("/near-location/distances")
+    public ResponseEntity<List<SchoolDistanceDTO>> getSchoolsWithinRadius(
+            @RequestParam Double latitude,
+            @RequestParam Double longitude,
+            @RequestParam(defaultValue = "10") Double radiusKm,
+            @RequestParam(required = false) Integer limit) {
+        if (limit != null && limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<SchoolDistance> hits = schoolService.getSchoolsWithinRadius(latitude, longitude, radiusKm, limit);
+        return ResponseEntity.ok(toDistanceDTOs(hits));
+    }
+
+    @GetMapping("/nearest")
+    public ResponseEntity<List<SchoolDistanceDTO>> getNearestSchools(
+            @RequestParam Double latitude,
+            @RequestParam Double longitude,
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(required = false) Double maxRadiusKm) {
+        if (k < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<SchoolDistance> hits = schoolService.getNearestSchools(latitude, longitude, k, maxRadiusKm);
+        return ResponseEntity.ok(toDistanceDTOs(hits));
+    }
+
     @GetMapping("/{id}/minimal")
-    public ResponseEntity<SchoolMinimalDTO> getSchoolMinimalById(@PathVariable UUID id) {
-        return ResponseEntity.ok(schoolService.getSchoolMinimalById(id));
+    public ResponseEntity<SchoolMinimalDTO> getSchoolMinimalById(@PathVariable UUID id, WebRequest request) {
+        SchoolMinimalSnapshot snapshot = schoolService.getSchoolMinimalSnapshot(id).orElse(null);
+        if (snapshot == null) {
+            // A 404 lets callers cache the id as unknown, a 500 would be taken for an outage
+            return ResponseEntity.notFound().build();
+        }
+        // Callers keep their copy and revalidate it with If-None-Match
+        if (request.checkNotModified(snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.toDTO());
+    }
+
+    @PostMapping("/minimal/batch")
+    public ResponseEntity<List<SchoolMinimalDTO>> getSchoolsMinimalByIds(@RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(schoolService.getSchoolsMinimalByIds(ids));
+    }
+
+    @PostMapping("/batch/expire-accreditations")
+    public ResponseEntity<SchoolSweepReportDTO> updateAccreditationStatuses() {
+        return ResponseEntity.ok(schoolService.updateAccreditationStatuses());
+    }
+
+    @PostMapping("/batch/deactivate-inactive")
+    public ResponseEntity<SchoolSweepReportDTO> deactivateInactiveSchools(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cutoffDate) {
+        return ResponseEntity.ok(schoolService.deactivateInactiveSchools(cutoffDate));
+    }
+
+    @PostMapping("/batch/verify-pending")
+    public ResponseEntity<SchoolSweepReportDTO> verifyAllPendingSchools() {
+        return ResponseEntity.ok(schoolService.verifyAllPendingSchools());
+    }
+
+    @GetMapping("/batch/jobs/{job}")
+    public ResponseEntity<SchoolSweepReportDTO> getSweepReport(@PathVariable SchoolSweepJob job) {
+        return ResponseEntity.ok(schoolService.getSweepReport(job));
+    }
+
+    private List<SchoolDistanceDTO> toDistanceDTOs(List<SchoolDistance> hits) {
+        return hits.stream()
+                .map(hit -> new SchoolDistanceDTO(modelMapper.map(hit.school(), SchoolResponseDTO.class), hit.distanceKm()))
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
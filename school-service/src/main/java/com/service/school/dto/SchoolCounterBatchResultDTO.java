@@ -0,0 +1,16 @@
+package com.service.school.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchoolCounterBatchResultDTO {
+    private int schoolsUpdated;
+    private List<UUID> unknownSchoolIds;
+}
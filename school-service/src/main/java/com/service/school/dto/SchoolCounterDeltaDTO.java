@@ -0,0 +1,18 @@
+package com.service.school.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchoolCounterDeltaDTO {
+    private UUID schoolId;
+
+    // Signed changes to apply, e.g. +120 students after an import
+    private int students;
+    private int teachers;
+}
@@ -0,0 +1,15 @@
+package com.service.school.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchoolDistanceDTO {
+    private SchoolResponseDTO school;
+    private double distanceKm;
+}
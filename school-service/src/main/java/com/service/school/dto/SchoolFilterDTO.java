@@ -0,0 +1,26 @@
+package com.service.school.dto;
+
+import com.service.school.enums.SchoolStatus;
+import com.service.school.enums.SchoolType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Optional filters of the school listing. Every non-null field narrows the result (AND).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchoolFilterDTO {
+    private SchoolType type;
+    private SchoolStatus status;
+    private String country;
+    private String city;
+    private Boolean featured;
+    private Boolean verified;
+    private Boolean isPublic;
+    private Boolean active;
+}
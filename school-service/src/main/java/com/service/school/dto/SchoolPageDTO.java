@@ -0,0 +1,21 @@
+package com.service.school.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchoolPageDTO {
+    private List<SchoolSummaryDTO> items;
+    private int size;
+    private boolean hasMore;
+
+    // Opaque keyset cursor on (name, id), pass it back to get the next page
+    private String nextCursor;
+}
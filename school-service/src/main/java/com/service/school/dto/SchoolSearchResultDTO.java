@@ -0,0 +1,19 @@
+package com.service.school.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchoolSearchResultDTO {
+    private List<SchoolSearchHitDTO> items;
+    private long total;
+    private int page;
+    private int size;
+}
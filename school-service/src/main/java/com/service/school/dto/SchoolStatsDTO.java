@@ -0,0 +1,28 @@
+package com.service.school.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchoolStatsDTO {
+    private long totalSchools;
+    private long activeSchools;
+    private long featuredSchools;
+    private long verifiedSchools;
+    private long totalStudents;
+    private long totalTeachers;
+    // Active schools per type and per country, all schools per status
+    private Map<String, Long> schoolsByType;
+    private Map<String, Long> schoolsByStatus;
+    private Map<String, Long> schoolsByCountry;
+    private LocalDateTime computedAt;
+    private long computationMs;
+}
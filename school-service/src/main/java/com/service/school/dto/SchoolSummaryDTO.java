@@ -0,0 +1,32 @@
+package com.service.school.dto;
+
+import com.service.school.enums.SchoolStatus;
+import com.service.school.enums.SchoolType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * The columns a school listing shows, selected directly instead of loading whole schools.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchoolSummaryDTO {
+    private UUID id;
+    private String name;
+    private String slug;
+    private SchoolType type;
+    private SchoolStatus status;
+    private String city;
+    private String country;
+    private String logoUrl;
+    private Boolean isFeatured;
+    private Boolean verified;
+    private Integer ranking;
+    private Integer totalStudents;
+}
@@ -2,6 +2,7 @@ package com.service.school.entity;
 
 import com.service.school.enums.SchoolStatus;
 import com.service.school.enums.SchoolType;
+import com.service.school.listener.SchoolChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,6 +17,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "schools", schema = "school_schema")
+@EntityListeners(SchoolChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -99,10 +101,11 @@ public class School {
     @Column(name = "longitude")
     private Double longitude;
 
-    @Column(name = "total_students")
+    // Written only by the atomic counter updates of SchoolRepository, never by saving the entity
+    @Column(name = "total_students", updatable = false)
     private Integer totalStudents = 0;
 
-    @Column(name = "total_teachers")
+    @Column(name = "total_teachers", updatable = false)
     private Integer totalTeachers = 0;
 
     @Column(name = "total_staff")
@@ -0,0 +1,17 @@
+package com.service.school.enums;
+
+public enum SchoolSweepJob {
+    EXPIRE_ACCREDITATIONS("Expire accreditations"),
+    DEACTIVATE_INACTIVE("Deactivate inactive schools"),
+    VERIFY_PENDING("Verify pending schools");
+
+    private final String displayName;
+
+    SchoolSweepJob(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,35 @@
+package com.service.school.listener;
+
+import com.service.school.entity.School;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns the school entity lifecycle into {@link SchoolChangedEvent}s, so the in-memory
+ * views of the schools (search index...) can follow the writes incrementally.
+ */
+@Component
+public class SchoolChangeListener {
+
+    // Resolved lazily: this listener is created while the EntityManagerFactory is being built
+    private final ObjectProvider<ApplicationEventPublisher> publisher;
+
+    public SchoolChangeListener(ObjectProvider<ApplicationEventPublisher> publisher) {
+        this.publisher = publisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(School school) {
+        publisher.getObject().publishEvent(new SchoolChangedEvent(school, false));
+    }
+
+    @PostRemove
+    public void onRemove(School school) {
+        publisher.getObject().publishEvent(new SchoolChangedEvent(school, true));
+    }
+}
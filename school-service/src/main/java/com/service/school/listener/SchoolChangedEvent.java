@@ -0,0 +1,11 @@
+package com.service.school.listener;
+
+import com.service.school.entity.School;
+
+/**
+ * Published for every school inserted, updated or deleted through JPA. Consumers should
+ * listen with {@code @TransactionalEventListener} so they only see committed changes.
+ * Set-based JPQL/JDBC updates do not publish it.
+ */
+public record SchoolChangedEvent(School school, boolean removed) {
+}
@@ -1,20 +1,24 @@
 package com.service.school.repository;
 
+import com.service.school.cache.SchoolMinimalSnapshot;
 import com.service.school.entity.School;
 import com.service.school.enums.SchoolStatus;
 import com.service.school.enums.SchoolType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface SchoolRepository extends JpaRepository<School, UUID> {
+public interface SchoolRepository extends JpaRepository<School, UUID>, SchoolSummaryRepository {
 
     Optional<School> findBySlug(String slug);
 
@@ -42,21 +46,42 @@ public interface SchoolRepository extends JpaRepository<School, UUID> {
 
     boolean existsByEmail(String email);
 
-    @Query("SELECT s FROM School s WHERE " +
-            "(LOWER(s.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(s.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(s.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(s.city) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "LOWER(s.country) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "AND s.status = 'ACTIVE' " +
-            "ORDER BY s.isFeatured DESC, s.name ASC")
-    List<School> searchSchools(@Param("keyword") String keyword);
-
     @Query("SELECT s FROM School s WHERE s.status = 'ACTIVE' AND s.isFeatured = true " +
             "ORDER BY s.ranking ASC NULLS LAST, s.totalStudents DESC " +
             "LIMIT :limit")
     List<School> findTopFeaturedSchools(@Param("limit") int limit);
 
+    @Query("SELECT s.id FROM School s WHERE s.status = 'ACTIVE' AND s.isFeatured = true")
+    List<UUID> findActiveFeaturedIds();
+
+    // Minimal view without loading the whole row, read through SchoolMinimalCache
+    @Query("SELECT new com.service.school.cache.SchoolMinimalSnapshot(s.id, s.name, s.slug, s.logoUrl, s.type, " +
+            "s.isActive, s.city, s.country, s.updatedAt) FROM School s WHERE s.id = :id")
+    Optional<SchoolMinimalSnapshot> findMinimalById(@Param("id") UUID id);
+
+    @Query("SELECT new com.service.school.cache.SchoolMinimalSnapshot(s.id, s.name, s.slug, s.logoUrl, s.type, " +
+            "s.isActive, s.city, s.country, s.updatedAt) FROM School s WHERE s.id IN :ids")
+    List<SchoolMinimalSnapshot> findMinimalByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Counters are changed in the database only, concurrent updates cannot overwrite each other
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE School s SET s.totalStudents = CASE WHEN COALESCE(s.totalStudents, 0) + :delta < 0 THEN 0 " +
+            "ELSE COALESCE(s.totalStudents, 0) + :delta END, s.updatedAt = CURRENT_TIMESTAMP WHERE s.id = :id")
+    int addToTotalStudents(@Param("id") UUID id, @Param("delta") int delta);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE School s SET s.totalTeachers = CASE WHEN COALESCE(s.totalTeachers, 0) + :delta < 0 THEN 0 " +
+            "ELSE COALESCE(s.totalTeachers, 0) + :delta END, s.updatedAt = CURRENT_TIMESTAMP WHERE s.id = :id")
+    int addToTotalTeachers(@Param("id") UUID id, @Param("delta") int delta);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE School s SET s.totalStudents = :count, s.updatedAt = CURRENT_TIMESTAMP WHERE s.id = :id")
+    int setTotalStudents(@Param("id") UUID id, @Param("count") Integer count);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE School s SET s.totalTeachers = :count, s.updatedAt = CURRENT_TIMESTAMP WHERE s.id = :id")
+    int setTotalTeachers(@Param("id") UUID id, @Param("count") Integer count);
+
     @Query("SELECT s.type, COUNT(s) FROM School s WHERE s.status = 'ACTIVE' GROUP BY s.type")
     List<Object[]> countSchoolsByType();
 
@@ -78,17 +103,57 @@ public interface SchoolRepository extends JpaRepository<School, UUID> {
 
     Long countByVerifiedTrueAndStatus(SchoolStatus status);
 
-    // Simplified location query - in production use PostGIS extension
+    // Bounding-box prefilter of the geo search, served by idx_schools_location; distances are checked in Java
     @Query("SELECT s FROM School s WHERE " +
-            "s.latitude IS NOT NULL AND s.longitude IS NOT NULL AND " +
-            "s.status = 'ACTIVE' AND " +
-            "SQRT(POWER((s.latitude - :latitude), 2) + POWER((s.longitude - :longitude), 2)) * 111.32 <= :radiusKm")
-    List<School> findSchoolsNearLocation(@Param("latitude") Double latitude,
-                                         @Param("longitude") Double longitude,
-                                         @Param("radiusKm") Double radiusKm);
-
-    @Query("SELECT s FROM School s WHERE s.updatedAt < :cutoffDate AND s.isActive = true")
-    List<School> findInactiveSchoolsSince(@Param("cutoffDate") LocalDateTime cutoffDate);
+            "s.latitude BETWEEN :minLat AND :maxLat AND " +
+            "s.longitude BETWEEN :minLon AND :maxLon AND " +
+            "s.status = 'ACTIVE'")
+    List<School> findActiveInBoundingBox(@Param("minLat") double minLat,
+                                         @Param("maxLat") double maxLat,
+                                         @Param("minLon") double minLon,
+                                         @Param("maxLon") double maxLon);
+
+    // ==================== SWEEPS (keyset chunks + bulk updates) ====================
+
+    // Served by idx_schools_accreditation_expiry
+    @Query("SELECT s.id FROM School s WHERE s.id > :after AND s.accreditationExpiryDate < :now " +
+            "AND (s.accreditationStatus IS NULL OR s.accreditationStatus <> 'EXPIRED') ORDER BY s.id")
+    List<UUID> findExpiredAccreditationIdsAfter(@Param("after") UUID after,
+                                                @Param("now") LocalDateTime now,
+                                                Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE School s SET s.accreditationStatus = 'EXPIRED', s.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE s.id IN :ids AND s.accreditationExpiryDate < :now " +
+            "AND (s.accreditationStatus IS NULL OR s.accreditationStatus <> 'EXPIRED')")
+    int expireAccreditations(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    // Served by idx_schools_active_updated_at
+    @Query("SELECT s.id FROM School s WHERE s.id > :after AND s.updatedAt < :cutoff AND s.isActive = true ORDER BY s.id")
+    List<UUID> findInactiveIdsAfter(@Param("after") UUID after,
+                                    @Param("cutoff") LocalDateTime cutoff,
+                                    Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE School s SET s.status = :inactive, s.isActive = false, s.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE s.id IN :ids AND s.updatedAt < :cutoff AND s.isActive = true")
+    int deactivate(@Param("ids") Collection<UUID> ids,
+                   @Param("cutoff") LocalDateTime cutoff,
+                   @Param("inactive") SchoolStatus inactive);
+
+    // Served by idx_schools_status
+    @Query("SELECT s.id FROM School s WHERE s.id > :after AND s.status = :status ORDER BY s.id")
+    List<UUID> findIdsByStatusAfter(@Param("after") UUID after,
+                                    @Param("status") SchoolStatus status,
+                                    Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE School s SET s.verified = true, s.verificationDate = :now, s.status = :active, " +
+            "s.updatedAt = CURRENT_TIMESTAMP WHERE s.id IN :ids AND s.status = :pending")
+    int verifyPending(@Param("ids") Collection<UUID> ids,
+                      @Param("now") LocalDateTime now,
+                      @Param("pending") SchoolStatus pending,
+                      @Param("active") SchoolStatus active);
 
     // Region can be derived from city/country or stored as separate field
     @Query("SELECT s FROM School s WHERE " +
@@ -0,0 +1,39 @@
+package com.service.school.repository;
+
+import com.service.school.dto.SchoolFilterDTO;
+import com.service.school.entity.School;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dynamic WHERE clauses for {@link SchoolRepository}. Only the filters that are set end up
+ * in the SQL, so each combination can use the matching composite index.
+ */
+public final class SchoolSpecifications {
+
+    private SchoolSpecifications() {
+    }
+
+    public static Specification<School> matching(SchoolFilterDTO filter) {
+        return (root, query, cb) -> {
+            if (filter == null) {
+                return cb.conjunction();
+            }
+
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getStatus() != null) predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            if (filter.getType() != null) predicates.add(cb.equal(root.get("type"), filter.getType()));
+            if (filter.getCountry() != null) predicates.add(cb.equal(root.get("country"), filter.getCountry()));
+            if (filter.getCity() != null) predicates.add(cb.equal(root.get("city"), filter.getCity()));
+            if (filter.getFeatured() != null) predicates.add(cb.equal(root.get("isFeatured"), filter.getFeatured()));
+            if (filter.getVerified() != null) predicates.add(cb.equal(root.get("verified"), filter.getVerified()));
+            if (filter.getIsPublic() != null) predicates.add(cb.equal(root.get("isPublic"), filter.getIsPublic()));
+            if (filter.getActive() != null) predicates.add(cb.equal(root.get("isActive"), filter.getActive()));
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
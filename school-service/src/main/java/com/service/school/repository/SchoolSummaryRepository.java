@@ -0,0 +1,22 @@
+package com.service.school.repository;
+
+import com.service.school.dto.SchoolSummaryDTO;
+import com.service.school.entity.School;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Narrow reads of the schools table for paginated listings.
+ */
+public interface SchoolSummaryRepository {
+
+    /**
+     * Summaries of the matching schools, ordered by (name, id).
+     * <p>
+     * When {@code afterName}/{@code afterId} are set, only rows after that keyset position
+     * are returned.
+     */
+    List<SchoolSummaryDTO> findSummaries(Specification<School> spec, String afterName, UUID afterId, int limit);
+}
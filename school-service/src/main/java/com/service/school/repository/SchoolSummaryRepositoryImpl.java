@@ -0,0 +1,54 @@
+package com.service.school.repository;
+
+import com.service.school.dto.SchoolSummaryDTO;
+import com.service.school.entity.School;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class SchoolSummaryRepositoryImpl implements SchoolSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<SchoolSummaryDTO> findSummaries(Specification<School> spec, String afterName, UUID afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SchoolSummaryDTO> query = cb.createQuery(SchoolSummaryDTO.class);
+        Root<School> root = query.from(School.class);
+
+        query.select(cb.construct(SchoolSummaryDTO.class,
+                root.get("id"), root.get("name"), root.get("slug"), root.get("type"), root.get("status"),
+                root.get("city"), root.get("country"), root.get("logoUrl"), root.get("isFeatured"),
+                root.get("verified"), root.get("ranking"), root.get("totalStudents")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filter = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        if (afterName != null && afterId != null) {
+            // (name, id) > (:afterName, :afterId); the redundant name >= :afterName is what
+            // Postgres uses as the start of the index range, the OR alone scans from the start
+            predicates.add(cb.greaterThanOrEqualTo(root.<String>get("name"), afterName));
+            predicates.add(cb.or(
+                    cb.greaterThan(root.<String>get("name"), afterName),
+                    cb.and(cb.equal(root.get("name"), afterName),
+                            cb.greaterThan(root.<UUID>get("id"), afterId))));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.asc(root.get("name")), cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,6 @@
+package com.service.school.search;
+
+import java.util.UUID;
+
+public record SchoolSearchHit(UUID schoolId, double score) {
+}
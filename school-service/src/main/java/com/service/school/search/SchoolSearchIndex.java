@@ -0,0 +1,465 @@
+package com.service.school.search;
+
+import com.service.school.entity.School;
+import com.service.school.enums.SchoolStatus;
+import com.service.school.listener.SchoolChangedEvent;
+import com.service.school.repository.SchoolRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over the name, title, description, city and country of the schools.
+ * <p>
+ * Each term maps to the schools containing it, weighted by the field it appears in. A query
+ * token matches a term exactly, as a prefix ("univ" finds "university") or, from four
+ * characters on, within one or two typos. The scores of all tokens are summed with an IDF
+ * factor, every token has to match, and only the requested page of the top hits is ranked.
+ * <p>
+ * Writes made through JPA are applied incrementally after commit (see
+ * {@link com.service.school.listener.SchoolChangeListener}). The index is built lazily on
+ * the first search and rebuilt from the database on a schedule, which also picks up
+ * set-based updates and writes made by other instances. Changes committed while a rebuild
+ * reads the database are recorded and replayed onto the fresh index before it is swapped in,
+ * so they are not lost whether the read saw them or not. One rebuild runs at a time.
+ */
+@Slf4j
+@Component
+public class SchoolSearchIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final float NAME_WEIGHT = 5f;
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float CITY_WEIGHT = 2f;
+    private static final float COUNTRY_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    private static final double PREFIX_FACTOR = 0.6;
+    private static final double FUZZY_FACTOR = 0.4;
+    private static final double FEATURED_BOOST = 1.1;
+
+    // Bounds the work of one token on a very short prefix ("u")
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int MIN_TWO_TYPOS_LENGTH = 8;
+
+    private final SchoolRepository schoolRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean scheduledRebuildEnabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Guarded by lock
+    private boolean loaded;
+    private Map<String, Map<UUID, Float>> postings = new HashMap<>();
+    private NavigableSet<String> dictionary = new TreeSet<>();
+    private Map<UUID, IndexedSchool> documents = new HashMap<>();
+    // Latest change of each school since the running rebuild started, empty for a removal; null when none runs
+    private Map<UUID, Optional<IndexedSchool>> pendingChanges;
+
+    public SchoolSearchIndex(SchoolRepository schoolRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${school.search.rebuild.enabled:true}") boolean scheduledRebuildEnabled) {
+        this.schoolRepository = schoolRepository;
+        this.meterRegistry = meterRegistry;
+        this.scheduledRebuildEnabled = scheduledRebuildEnabled;
+
+        meterRegistry.gauge("school.search.terms", this, index -> index.size(true));
+        meterRegistry.gauge("school.search.documents", this, index -> index.size(false));
+    }
+
+    /* =======================
+       INCREMENTAL UPDATES
+       ======================= */
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSchoolChanged(SchoolChangedEvent event) {
+        if (event.removed()) {
+            remove(event.school().getId());
+        } else {
+            index(event.school());
+        }
+    }
+
+    public void index(School school) {
+        IndexedSchool document = analyze(school);
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.put(school.getId(), Optional.of(document));
+            }
+            if (!loaded) {
+                // Nothing to update yet, the first build reads or replays it
+                return;
+            }
+            unlink(school.getId(), documents, postings, dictionary);
+            link(school.getId(), document, postings, dictionary);
+            documents.put(school.getId(), document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID schoolId) {
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.put(schoolId, Optional.empty());
+            }
+            if (loaded) {
+                unlink(schoolId, documents, postings, dictionary);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /* =======================
+       REBUILD
+       ======================= */
+
+    @Scheduled(initialDelayString = "${school.search.rebuild.initial-delay:10s}",
+            fixedDelayString = "${school.search.rebuild.interval:10m}")
+    public void scheduledRebuild() {
+        if (!scheduledRebuildEnabled) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("School search index rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Re-reads every school and swaps in a freshly built index. Searches keep using the old
+     * one until the swap.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            lock.writeLock().lock();
+            try {
+                pendingChanges = new HashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Map<String, Map<UUID, Float>> freshPostings = new HashMap<>();
+            NavigableSet<String> freshDictionary = new TreeSet<>();
+            Map<UUID, IndexedSchool> freshDocuments = new HashMap<>();
+            boolean swapped = false;
+            try {
+                for (School school : schoolRepository.findAll()) {
+                    IndexedSchool document = analyze(school);
+                    link(school.getId(), document, freshPostings, freshDictionary);
+                    freshDocuments.put(school.getId(), document);
+                }
+
+                lock.writeLock().lock();
+                try {
+                    // Committed during the read, which may have seen them or not: the change wins
+                    pendingChanges.forEach((schoolId, change) -> {
+                        unlink(schoolId, freshDocuments, freshPostings, freshDictionary);
+                        change.ifPresent(document -> {
+                            link(schoolId, document, freshPostings, freshDictionary);
+                            freshDocuments.put(schoolId, document);
+                        });
+                    });
+                    postings = freshPostings;
+                    dictionary = freshDictionary;
+                    documents = freshDocuments;
+                    loaded = true;
+                    pendingChanges = null;
+                    swapped = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } finally {
+                if (!swapped) {
+                    lock.writeLock().lock();
+                    try {
+                        pendingChanges = null;
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                }
+            }
+
+            sample.stop(meterRegistry.timer("school.search.rebuild.duration"));
+            log.debug("School search index rebuilt: {} schools, {} terms", freshDocuments.size(), freshDictionary.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Concurrent first searches wait for one build instead of each reading every school
+    private void ensureLoaded() {
+        if (isLoaded()) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            if (!isLoaded()) {
+                rebuild();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /* =======================
+       SEARCH
+       ======================= */
+
+    /**
+     * Ranked active schools matching every token of {@code query}; {@code page} is zero-based.
+     */
+    public SchoolSearchPage search(String query, int page, int size) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (tokens.isEmpty() || size <= 0 || page < 0) {
+            return new SchoolSearchPage(List.of(), 0);
+        }
+        ensureLoaded();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        lock.readLock().lock();
+        try {
+            Map<UUID, Double> scores = null;
+            for (String token : tokens) {
+                Map<UUID, Double> tokenScores = match(token);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    // Every token has to match
+                    Map<UUID, Double> both = new HashMap<>();
+                    for (Map.Entry<UUID, Double> entry : scores.entrySet()) {
+                        Double score = tokenScores.get(entry.getKey());
+                        if (score != null) both.put(entry.getKey(), entry.getValue() + score);
+                    }
+                    scores = both;
+                }
+                if (scores.isEmpty()) break;
+            }
+
+            List<SchoolSearchHit> hits = topHits(scores, page, size);
+            return new SchoolSearchPage(hits, scores.size());
+        } finally {
+            lock.readLock().unlock();
+            sample.stop(meterRegistry.timer("school.search.query.duration"));
+        }
+    }
+
+    private Map<UUID, Double> match(String token) {
+        Map<UUID, Double> scores = new HashMap<>();
+        addPostings(token, 1.0, scores);
+
+        int expansions = 0;
+        for (String term : dictionary.subSet(token, false, token + Character.MAX_VALUE, false)) {
+            if (++expansions > MAX_PREFIX_EXPANSIONS) break;
+            addPostings(term, PREFIX_FACTOR, scores);
+        }
+
+        if (token.length() >= MIN_FUZZY_LENGTH) {
+            int maxEdits = token.length() >= MIN_TWO_TYPOS_LENGTH ? 2 : 1;
+            // Typos are looked for among the terms sharing the first letter, which keeps the scan small
+            String first = token.substring(0, 1);
+            for (String term : dictionary.subSet(first, true, first + Character.MAX_VALUE, false)) {
+                if (Math.abs(term.length() - token.length()) > maxEdits || term.equals(token)) continue;
+                int distance = editDistance(token, term, maxEdits);
+                if (distance <= maxEdits) {
+                    addPostings(term, FUZZY_FACTOR / distance, scores);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private void addPostings(String term, double factor, Map<UUID, Double> scores) {
+        Map<UUID, Float> posting = postings.get(term);
+        if (posting == null) {
+            return;
+        }
+        double idf = Math.log(1 + (double) documents.size() / posting.size());
+        for (Map.Entry<UUID, Float> entry : posting.entrySet()) {
+            IndexedSchool document = documents.get(entry.getKey());
+            if (document == null || !document.searchable()) continue;
+            double score = entry.getValue() * idf * factor;
+            // A token scores with its best matching term only
+            scores.merge(entry.getKey(), score, Math::max);
+        }
+    }
+
+    private List<SchoolSearchHit> topHits(Map<UUID, Double> scores, int page, int size) {
+        long wanted = (long) (page + 1) * size;
+        if (scores.isEmpty() || (long) page * size >= scores.size()) {
+            return List.of();
+        }
+
+        Comparator<SchoolSearchHit> ranking = Comparator.comparingDouble(SchoolSearchHit::score)
+                .thenComparing(hit -> documents.get(hit.schoolId()).name(), Comparator.reverseOrder());
+
+        // Min-heap of the best (page + 1) * size hits, the rest of the matches is never sorted
+        PriorityQueue<SchoolSearchHit> best = new PriorityQueue<>(ranking);
+        for (Map.Entry<UUID, Double> entry : scores.entrySet()) {
+            IndexedSchool document = documents.get(entry.getKey());
+            double score = document.featured() ? entry.getValue() * FEATURED_BOOST : entry.getValue();
+            best.add(new SchoolSearchHit(entry.getKey(), score));
+            if (best.size() > wanted) best.poll();
+        }
+
+        List<SchoolSearchHit> ranked = new ArrayList<>(best);
+        ranked.sort(ranking.reversed());
+        int from = Math.min(page * size, ranked.size());
+        return ranked.subList(from, ranked.size());
+    }
+
+    /* =======================
+       ANALYSIS
+       ======================= */
+
+    private IndexedSchool analyze(School school) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, school.getName(), NAME_WEIGHT);
+        addField(weights, school.getTitle(), TITLE_WEIGHT);
+        addField(weights, school.getCity(), CITY_WEIGHT);
+        addField(weights, school.getCountry(), COUNTRY_WEIGHT);
+        addField(weights, school.getDescription(), DESCRIPTION_WEIGHT);
+
+        boolean searchable = school.getStatus() == SchoolStatus.ACTIVE;
+        boolean featured = Boolean.TRUE.equals(school.getIsFeatured());
+        String name = school.getName() == null ? "" : school.getName().toLowerCase(Locale.ROOT);
+        return new IndexedSchool(weights, searchable, featured, name);
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float weight) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokenize(text)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        // Dampened term frequency, so a long description cannot outweigh the name
+        frequencies.forEach((token, tf) ->
+                weights.merge(token, (float) (weight * (1 + Math.log(tf))), Float::sum));
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(normalized.toLowerCase(Locale.ROOT))) {
+            if (token.length() >= 2) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    /**
+     * Damerau-Levenshtein (optimal string alignment) distance, or {@code max + 1} as soon as
+     * it is known to exceed {@code max}.
+     */
+    static int editDistance(String a, String b, int max) {
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) previous[j] = j;
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], previous2[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    /* =======================
+       INTERNAL HELPERS
+       ======================= */
+
+    private static void link(UUID schoolId, IndexedSchool document,
+                             Map<String, Map<UUID, Float>> postings, Set<String> dictionary) {
+        document.weights().forEach((term, weight) -> {
+            postings.computeIfAbsent(term, t -> new HashMap<>()).put(schoolId, weight);
+            dictionary.add(term);
+        });
+    }
+
+    private static void unlink(UUID schoolId, Map<UUID, IndexedSchool> documents,
+                               Map<String, Map<UUID, Float>> postings, Set<String> dictionary) {
+        IndexedSchool previous = documents.remove(schoolId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.weights().keySet()) {
+            Map<UUID, Float> posting = postings.get(term);
+            if (posting == null) continue;
+            posting.remove(schoolId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+                dictionary.remove(term);
+            }
+        }
+    }
+
+    private double size(boolean terms) {
+        lock.readLock().lock();
+        try {
+            return terms ? dictionary.size() : documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record IndexedSchool(Map<String, Float> weights, boolean searchable, boolean featured, String name) {
+    }
+}
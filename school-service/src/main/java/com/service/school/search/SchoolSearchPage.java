@@ -0,0 +1,9 @@
+package com.service.school.search;
+
+import java.util.List;
+
+/**
+ * One page of ranked hits, and the number of schools matching the query.
+ */
+public record SchoolSearchPage(List<SchoolSearchHit> hits, long total) {
+}
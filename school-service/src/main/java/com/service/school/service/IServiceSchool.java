@@ -1,8 +1,16 @@
 package com.service.school.service;
 
+import com.service.school.cache.SchoolMinimalSnapshot;
+import com.service.school.dto.SchoolCounterBatchResultDTO;
+import com.service.school.dto.SchoolCounterDeltaDTO;
+import com.service.school.dto.SchoolFilterDTO;
 import com.service.school.dto.SchoolMinimalDTO;
+import com.service.school.dto.SchoolPageDTO;
+import com.service.school.dto.SchoolStatsDTO;
+import com.service.school.dto.SchoolSweepReportDTO;
 import com.service.school.entity.School;
 import com.service.school.enums.SchoolStatus;
+import com.service.school.enums.SchoolSweepJob;
 import com.service.school.enums.SchoolType;
 
 import java.time.LocalDateTime;
@@ -22,10 +30,13 @@ public interface IServiceSchool {
     Optional<School> getSchoolBySlug(String slug);
     Optional<School> getSchoolByEmail(String email);
     List<School> getAllSchools();
+    SchoolPageDTO getSchoolsPage(SchoolFilterDTO filter, String cursor, Integer size);
 
     // ==================== SEARCH & FILTER OPERATIONS ====================
 
+    // Every match, best first; use the paged variant to bound the result
     List<School> searchSchools(String keyword);
+    SchoolSearchResult searchSchools(String keyword, int page, int size);
     List<School> getSchoolsByType(SchoolType type);
     List<School> getSchoolsByStatus(SchoolStatus status);
     List<School> getSchoolsByCountry(String country);
@@ -56,7 +67,9 @@ public interface IServiceSchool {
     School incrementTeacherCount(UUID schoolId);
     School decrementTeacherCount(UUID schoolId);
     School updateStudentCount(UUID schoolId, Integer count);
+    School adjustStudentCount(UUID schoolId, int delta);
     School updateTeacherCount(UUID schoolId, Integer count);
+    SchoolCounterBatchResultDTO applyCounterDeltas(List<SchoolCounterDeltaDTO> deltas);
 
     // ==================== VALIDATION & CHECKS ====================
 
@@ -78,19 +91,25 @@ public interface IServiceSchool {
     List<Object[]> getSchoolsCountByCountry();
     Integer getTotalStudentsAcrossSchools();
     Integer getTotalTeachersAcrossSchools();
+    SchoolStatsDTO getSchoolStats();
 
     // ==================== LOCATION BASED QUERIES ====================
 
     List<School> getSchoolsNearLocation(Double latitude, Double longitude, Double radiusKm);
+    List<SchoolDistance> getSchoolsWithinRadius(Double latitude, Double longitude, Double radiusKm, Integer limit);
+    List<SchoolDistance> getNearestSchools(Double latitude, Double longitude, int k, Double maxRadiusKm);
     List<School> getSchoolsInRegion(String region);
 
     // ==================== BULK OPERATIONS ====================
 
-    void verifyAllPendingSchools();
-    void deactivateInactiveSchools(LocalDateTime cutoffDate);
-    void updateAccreditationStatuses();
+    SchoolSweepReportDTO verifyAllPendingSchools();
+    SchoolSweepReportDTO deactivateInactiveSchools(LocalDateTime cutoffDate);
+    SchoolSweepReportDTO updateAccreditationStatuses();
+    SchoolSweepReportDTO getSweepReport(SchoolSweepJob job);
 
     // ==================== MINIMAL DTO FOR INTER-SERVICE COMMUNICATION ====================
 
     SchoolMinimalDTO getSchoolMinimalById(UUID id);
+    Optional<SchoolMinimalSnapshot> getSchoolMinimalSnapshot(UUID id);
+    List<SchoolMinimalDTO> getSchoolsMinimalByIds(List<UUID> ids);
 }
\ No newline at end of file
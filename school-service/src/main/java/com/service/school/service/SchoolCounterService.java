@@ -0,0 +1,226 @@
+package com.service.school.service;
+
+import com.service.school.cache.FeaturedSchoolLeaderboard;
+import com.service.school.dto.SchoolCounterBatchResultDTO;
+import com.service.school.dto.SchoolCounterDeltaDTO;
+import com.service.school.repository.SchoolRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Student and teacher counters of the schools.
+ * <p>
+ * Every change is applied in the database as {@code total = total + delta} (never below zero),
+ * so concurrent enrolments cannot overwrite each other and only the counter column is written.
+ * With {@code school.counters.buffered=true} single changes are first summed in memory and
+ * flushed as one batch every {@code school.counters.flush-interval}, at the price of counters
+ * lagging by up to one interval.
+ */
+@Slf4j
+@Service
+public class SchoolCounterService {
+
+    private static final String APPLY_DELTA = """
+            UPDATE school_schema.schools
+            SET total_students = GREATEST(COALESCE(total_students, 0) + ?, 0),
+                total_teachers = GREATEST(COALESCE(total_teachers, 0) + ?, 0),
+                updated_at = ?
+            WHERE id = ?
+            """;
+
+    private final SchoolRepository schoolRepository;
+    private final FeaturedSchoolLeaderboard featuredLeaderboard;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean buffered;
+
+    // Pending changes per school. Entries of known schools are never removed, so an add cannot race with a flush
+    private final Map<UUID, PendingDelta> pending = new ConcurrentHashMap<>();
+
+    public SchoolCounterService(SchoolRepository schoolRepository,
+                                FeaturedSchoolLeaderboard featuredLeaderboard,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${school.counters.buffered:false}") boolean buffered) {
+        this.schoolRepository = schoolRepository;
+        this.featuredLeaderboard = featuredLeaderboard;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.buffered = buffered;
+
+        meterRegistry.gauge("school.counters.pending", pending, SchoolCounterService::pendingSchools);
+    }
+
+    /* =======================
+       SINGLE CHANGES
+       ======================= */
+
+    public void addStudents(UUID schoolId, int delta) {
+        if (buffered) {
+            pending.computeIfAbsent(schoolId, id -> new PendingDelta()).students.add(delta);
+            return;
+        }
+        requireUpdated(schoolRepository.addToTotalStudents(schoolId, delta), schoolId);
+        featuredLeaderboard.onCountersChanged(List.of(schoolId));
+        meterRegistry.counter("school.counters.updates", "mode", "direct").increment();
+    }
+
+    public void addTeachers(UUID schoolId, int delta) {
+        if (buffered) {
+            pending.computeIfAbsent(schoolId, id -> new PendingDelta()).teachers.add(delta);
+            return;
+        }
+        requireUpdated(schoolRepository.addToTotalTeachers(schoolId, delta), schoolId);
+        featuredLeaderboard.onCountersChanged(List.of(schoolId));
+        meterRegistry.counter("school.counters.updates", "mode", "direct").increment();
+    }
+
+    /* =======================
+       BATCH
+       ======================= */
+
+    /**
+     * Applies all deltas in one transaction and one JDBC batch. Deltas of the same school are
+     * merged first and schools are updated in id order, so concurrent batches lock rows in the
+     * same order and cannot deadlock.
+     */
+    public SchoolCounterBatchResultDTO applyBatch(List<SchoolCounterDeltaDTO> deltas) {
+        Map<UUID, long[]> merged = new TreeMap<>();
+        for (SchoolCounterDeltaDTO delta : deltas) {
+            if (delta.getSchoolId() == null) continue;
+            long[] sums = merged.computeIfAbsent(delta.getSchoolId(), id -> new long[2]);
+            sums[0] += delta.getStudents();
+            sums[1] += delta.getTeachers();
+        }
+
+        List<UUID> unknown = apply(merged);
+        meterRegistry.counter("school.counters.updates", "mode", "batch").increment(merged.size());
+        return new SchoolCounterBatchResultDTO(merged.size() - unknown.size(), unknown);
+    }
+
+    /* =======================
+       BUFFER FLUSH
+       ======================= */
+
+    @Scheduled(initialDelayString = "${school.counters.flush-interval:1s}",
+            fixedDelayString = "${school.counters.flush-interval:1s}")
+    public void scheduledFlush() {
+        if (!buffered) {
+            return;
+        }
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("School counter flush failed, changes stay buffered: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (buffered) {
+            flush();
+        }
+    }
+
+    public synchronized void flush() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        // sumThenReset swaps every cell atomically: an add racing with it lands in this flush or the next
+        Map<UUID, long[]> drained = new TreeMap<>();
+        pending.forEach((schoolId, delta) -> {
+            long students = delta.students.sumThenReset();
+            long teachers = delta.teachers.sumThenReset();
+            if (students != 0 || teachers != 0) {
+                drained.put(schoolId, new long[]{students, teachers});
+            }
+        });
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<UUID> unknown = apply(drained);
+            if (!unknown.isEmpty()) {
+                log.warn("Dropped buffered counter changes of {} unknown schools: {}", unknown.size(), unknown);
+                unknown.forEach(pending::remove);
+            }
+            meterRegistry.counter("school.counters.updates", "mode", "buffered").increment(drained.size());
+        } catch (RuntimeException e) {
+            // Put the changes back, the next flush retries them
+            drained.forEach((schoolId, sums) -> {
+                PendingDelta delta = pending.computeIfAbsent(schoolId, id -> new PendingDelta());
+                delta.students.add(sums[0]);
+                delta.teachers.add(sums[1]);
+            });
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("school.counters.flush.duration"));
+        }
+    }
+
+    /* =======================
+       INTERNAL HELPERS
+       ======================= */
+
+    private List<UUID> apply(Map<UUID, long[]> deltas) {
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<UUID> ids = new ArrayList<>(deltas.keySet());
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            long[] sums = deltas.get(id);
+            args.add(new Object[]{Math.toIntExact(sums[0]), Math.toIntExact(sums[1]), now, id});
+        }
+
+        int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(APPLY_DELTA, args));
+        featuredLeaderboard.onCountersChanged(ids);
+
+        List<UUID> unknown = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) unknown.add(ids.get(i));
+        }
+        return unknown;
+    }
+
+    private void requireUpdated(int updated, UUID schoolId) {
+        if (updated == 0) {
+            throw new RuntimeException("School not found with id: " + schoolId);
+        }
+    }
+
+    private static double pendingSchools(Map<UUID, PendingDelta> pending) {
+        return pending.values().stream()
+                .filter(delta -> delta.students.sum() != 0 || delta.teachers.sum() != 0)
+                .count();
+    }
+
+    private static final class PendingDelta {
+        // LongAdder stripes contended increments over several cells
+        private final LongAdder students = new LongAdder();
+        private final LongAdder teachers = new LongAdder();
+    }
+}
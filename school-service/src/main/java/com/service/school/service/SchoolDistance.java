@@ -0,0 +1,9 @@
+package com.service.school.service;
+
+import com.service.school.entity.School;
+
+/**
+ * A school found by a location query, with its great-circle distance to the query point.
+ */
+public record SchoolDistance(School school, double distanceKm) {
+}
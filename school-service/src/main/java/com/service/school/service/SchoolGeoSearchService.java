@@ -0,0 +1,142 @@
+package com.service.school.service;
+
+import com.service.school.entity.School;
+import com.service.school.repository.SchoolRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Radius and nearest-neighbour queries over the active schools.
+ * <p>
+ * The database only sees a latitude/longitude bounding box around the search circle, which
+ * the (latitude, longitude) index answers without scanning the table. The candidates are
+ * then checked with the exact haversine distance and sorted by it. Nearest-neighbour queries
+ * start with a small radius and double it until enough schools fall inside the circle.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class SchoolGeoSearchService {
+
+    // Mean earth radius (IUGG)
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    // Half the circumference: any point of the globe is within this distance
+    private static final double MAX_RADIUS_KM = Math.PI * EARTH_RADIUS_KM;
+
+    private final SchoolRepository schoolRepository;
+    private final double initialKnnRadiusKm;
+
+    public SchoolGeoSearchService(SchoolRepository schoolRepository,
+                                  @Value("${school.geo.knn-initial-radius-km:5}") double initialKnnRadiusKm) {
+        this.schoolRepository = schoolRepository;
+        this.initialKnnRadiusKm = initialKnnRadiusKm;
+    }
+
+    /**
+     * Active schools within {@code radiusKm} of the point, nearest first. {@code limit} may be null.
+     */
+    public List<SchoolDistance> withinRadius(double latitude, double longitude, double radiusKm, Integer limit) {
+        validatePoint(latitude, longitude);
+        if (radiusKm <= 0) {
+            throw new RuntimeException("Radius must be positive");
+        }
+        if (limit != null && limit <= 0) {
+            throw new RuntimeException("limit must be positive");
+        }
+
+        List<SchoolDistance> hits = search(latitude, longitude, Math.min(radiusKm, MAX_RADIUS_KM));
+        return limit != null && hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    /**
+     * The {@code k} active schools nearest to the point, optionally no farther than {@code maxRadiusKm}.
+     */
+    public List<SchoolDistance> nearest(double latitude, double longitude, int k, Double maxRadiusKm) {
+        validatePoint(latitude, longitude);
+        if (k <= 0) {
+            throw new RuntimeException("k must be positive");
+        }
+
+        double maxRadius = maxRadiusKm == null ? MAX_RADIUS_KM : Math.min(maxRadiusKm, MAX_RADIUS_KM);
+        double radius = Math.min(initialKnnRadiusKm, maxRadius);
+        while (true) {
+            // Every school outside the circle is farther than every school inside it,
+            // so once k schools are inside, they are the k nearest
+            List<SchoolDistance> hits = search(latitude, longitude, radius);
+            if (hits.size() >= k || radius >= maxRadius) {
+                return hits.size() > k ? hits.subList(0, k) : hits;
+            }
+            radius = Math.min(radius * 2, maxRadius);
+        }
+    }
+
+    /* =======================
+       INTERNAL HELPERS
+       ======================= */
+
+    private List<SchoolDistance> search(double latitude, double longitude, double radiusKm) {
+        List<School> candidates = new ArrayList<>();
+        for (double[] box : boundingBoxes(latitude, longitude, radiusKm)) {
+            candidates.addAll(schoolRepository.findActiveInBoundingBox(box[0], box[1], box[2], box[3]));
+        }
+
+        List<SchoolDistance> hits = new ArrayList<>();
+        for (School school : candidates) {
+            double distance = haversineKm(latitude, longitude, school.getLatitude(), school.getLongitude());
+            if (distance <= radiusKm) {
+                hits.add(new SchoolDistance(school, distance));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(SchoolDistance::distanceKm));
+
+        log.debug("Geo search r={}km: {} candidates in box, {} within radius", radiusKm, candidates.size(), hits.size());
+        return hits;
+    }
+
+    /**
+     * Smallest latitude/longitude boxes ({minLat, maxLat, minLon, maxLon}) containing the circle.
+     * Two boxes when the circle crosses the antimeridian, a full-longitude band around a pole.
+     */
+    static List<double[]> boundingBoxes(double latitude, double longitude, double radiusKm) {
+        double angular = radiusKm / EARTH_RADIUS_KM;
+        double lat = Math.toRadians(latitude);
+        double minLat = Math.toDegrees(lat - angular);
+        double maxLat = Math.toDegrees(lat + angular);
+
+        if (maxLat >= 90 || minLat <= -90) {
+            return List.of(new double[]{Math.max(minLat, -90), Math.min(maxLat, 90), -180, 180});
+        }
+
+        double deltaLon = Math.toDegrees(Math.asin(Math.sin(angular) / Math.cos(lat)));
+        double minLon = longitude - deltaLon;
+        double maxLon = longitude + deltaLon;
+        if (minLon < -180) {
+            return List.of(new double[]{minLat, maxLat, minLon + 360, 180}, new double[]{minLat, maxLat, -180, maxLon});
+        }
+        if (maxLon > 180) {
+            return List.of(new double[]{minLat, maxLat, minLon, 180}, new double[]{minLat, maxLat, -180, maxLon - 360});
+        }
+        return List.<double[]>of(new double[]{minLat, maxLat, minLon, maxLon});
+    }
+
+    static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void validatePoint(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new RuntimeException("Invalid coordinates: " + latitude + ", " + longitude);
+        }
+    }
+}
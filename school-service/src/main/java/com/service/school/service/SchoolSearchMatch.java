@@ -0,0 +1,9 @@
+package com.service.school.service;
+
+import com.service.school.entity.School;
+
+/**
+ * A school found by a keyword search, with its relevance score.
+ */
+public record SchoolSearchMatch(School school, double score) {
+}
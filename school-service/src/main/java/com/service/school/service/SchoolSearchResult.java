@@ -0,0 +1,9 @@
+package com.service.school.service;
+
+import java.util.List;
+
+/**
+ * One page of keyword search matches, best first, and the number of schools matching in total.
+ */
+public record SchoolSearchResult(List<SchoolSearchMatch> matches, long total) {
+}
@@ -0,0 +1,156 @@
+package com.service.school.service;
+
+import com.service.school.dto.SchoolStatsDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Dashboard statistics of the schools, computed by one aggregate over the table and served
+ * from memory until they are older than {@code school.stats.max-staleness}.
+ * <p>
+ * The GROUPING SETS query returns one row per type, per status, per country and one grand
+ * total row; the FILTER clauses give every count of the dashboard from that single scan.
+ */
+@Slf4j
+@Service
+public class SchoolStatsService {
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private static final String STATS_QUERY = """
+            SELECT GROUPING(type) AS g_type, GROUPING(status) AS g_status, GROUPING(country) AS g_country,
+                   type, status, country,
+                   COUNT(*) AS schools,
+                   COUNT(*) FILTER (WHERE status = 'ACTIVE') AS active_status,
+                   COUNT(*) FILTER (WHERE status = 'ACTIVE' AND is_active) AS active,
+                   COUNT(*) FILTER (WHERE status = 'ACTIVE' AND is_featured) AS featured,
+                   COUNT(*) FILTER (WHERE status = 'ACTIVE' AND verified) AS verified,
+                   COALESCE(SUM(total_students) FILTER (WHERE status = 'ACTIVE'), 0) AS students,
+                   COALESCE(SUM(total_teachers) FILTER (WHERE status = 'ACTIVE'), 0) AS teachers
+            FROM school_schema.schools
+            GROUP BY GROUPING SETS ((type), (status), (country), ())
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long maxStalenessNanos;
+
+    private volatile Snapshot snapshot;
+
+    public SchoolStatsService(JdbcTemplate jdbcTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${school.stats.max-staleness:30s}") Duration maxStaleness) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+
+        meterRegistry.gauge("school.stats.age.seconds", this, SchoolStatsService::ageSeconds);
+    }
+
+    /**
+     * The cached statistics, recomputed first if they are older than the staleness bound.
+     * Concurrent callers of an expired snapshot wait for one computation.
+     */
+    public SchoolStatsDTO getStats() {
+        Snapshot current = snapshot;
+        if (current != null && !current.isExpired(maxStalenessNanos)) {
+            meterRegistry.counter("school.stats.reads", "source", "cache").increment();
+            return current.stats();
+        }
+
+        synchronized (this) {
+            current = snapshot;
+            if (current == null || current.isExpired(maxStalenessNanos)) {
+                current = compute();
+                snapshot = current;
+            }
+        }
+        meterRegistry.counter("school.stats.reads", "source", "database").increment();
+        return current.stats();
+    }
+
+    /**
+     * Drops the cached statistics, the next read recomputes them.
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot compute() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long start = System.nanoTime();
+
+        Map<String, Long> byType = new TreeMap<>();
+        Map<String, Long> byStatus = new TreeMap<>();
+        Map<String, Long> byCountry = new TreeMap<>();
+        long[] totals = new long[6];
+
+        jdbcTemplate.query(STATS_QUERY, rs -> {
+            if (rs.getInt("g_type") == 0) {
+                putNonZero(byType, rs.getString("type"), rs.getLong("active_status"));
+            } else if (rs.getInt("g_status") == 0) {
+                putNonZero(byStatus, rs.getString("status"), rs.getLong("schools"));
+            } else if (rs.getInt("g_country") == 0) {
+                putNonZero(byCountry, rs.getString("country"), rs.getLong("active_status"));
+            } else {
+                totals[0] = rs.getLong("schools");
+                totals[1] = rs.getLong("active");
+                totals[2] = rs.getLong("featured");
+                totals[3] = rs.getLong("verified");
+                totals[4] = rs.getLong("students");
+                totals[5] = rs.getLong("teachers");
+            }
+        });
+
+        long computationMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        sample.stop(meterRegistry.timer("school.stats.compute.duration"));
+        log.debug("School stats computed in {} ms", computationMs);
+
+        SchoolStatsDTO stats = new SchoolStatsDTO(
+                totals[0], totals[1], totals[2], totals[3], totals[4], totals[5],
+                Collections.unmodifiableMap(byCount(byType)),
+                Collections.unmodifiableMap(byCount(byStatus)),
+                Collections.unmodifiableMap(byCount(byCountry)),
+                LocalDateTime.now(),
+                computationMs);
+        return new Snapshot(stats, System.nanoTime());
+    }
+
+    private static void putNonZero(Map<String, Long> counts, String key, long count) {
+        // Groups without a counted school (e.g. a country with only inactive schools) are left out, as with WHERE
+        if (count > 0) {
+            counts.merge(key == null ? UNKNOWN : key, count, Long::sum);
+        }
+    }
+
+    private static Map<String, Long> byCount(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private double ageSeconds() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : (System.nanoTime() - current.computedAtNanos()) / 1_000_000_000.0;
+    }
+
+    private record Snapshot(SchoolStatsDTO stats, long computedAtNanos) {
+
+        boolean isExpired(long maxStalenessNanos) {
+            return System.nanoTime() - computedAtNanos > maxStalenessNanos;
+        }
+    }
+}
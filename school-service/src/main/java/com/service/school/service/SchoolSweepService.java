@@ -0,0 +1,252 @@
+package com.service.school.service;
+
+import com.service.school.cache.FeaturedSchoolLeaderboard;
+import com.service.school.cache.SchoolMinimalCache;
+import com.service.school.dto.SchoolSweepReportDTO;
+import com.service.school.enums.SchoolStatus;
+import com.service.school.enums.SchoolSweepJob;
+import com.service.school.repository.SchoolRepository;
+import com.service.school.search.SchoolSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Scheduled maintenance sweeps over the schools: expired accreditations, inactive schools
+ * and pending verifications.
+ * <p>
+ * Each chunk selects the next candidate ids after the previous chunk (keyset on the primary
+ * key, candidates found through an indexed predicate) and applies the rule with one bulk
+ * UPDATE that re-checks the predicate, in its own short transaction. Every run produces a
+ * report with its counts and duration, kept as the last report of the job.
+ */
+@Slf4j
+@Service
+public class SchoolSweepService {
+
+    private static final String COMPLETED = "COMPLETED";
+    private static final String FAILED = "FAILED";
+
+    // Lowest uuid, the keyset starting point of a run
+    private static final UUID START = new UUID(0L, 0L);
+
+    private final SchoolRepository schoolRepository;
+    private final SchoolMinimalCache schoolMinimalCache;
+    private final FeaturedSchoolLeaderboard featuredLeaderboard;
+    private final SchoolSearchIndex schoolSearchIndex;
+    private final SchoolStatsService schoolStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final Duration inactivityPeriod;
+    private final boolean accreditationSweepEnabled;
+    private final boolean inactivitySweepEnabled;
+    private final boolean verificationSweepEnabled;
+
+    private final Set<SchoolSweepJob> runningJobs = ConcurrentHashMap.newKeySet();
+    private final Map<SchoolSweepJob, SchoolSweepReportDTO> lastReports =
+            Collections.synchronizedMap(new EnumMap<>(SchoolSweepJob.class));
+
+    public SchoolSweepService(SchoolRepository schoolRepository,
+                              SchoolMinimalCache schoolMinimalCache,
+                              FeaturedSchoolLeaderboard featuredLeaderboard,
+                              SchoolSearchIndex schoolSearchIndex,
+                              SchoolStatsService schoolStatsService,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${school.sweeps.chunk-size:500}") int chunkSize,
+                              @Value("${school.sweeps.inactivity.period:365d}") Duration inactivityPeriod,
+                              @Value("${school.sweeps.accreditation.enabled:true}") boolean accreditationSweepEnabled,
+                              @Value("${school.sweeps.inactivity.enabled:true}") boolean inactivitySweepEnabled,
+                              @Value("${school.sweeps.verification.enabled:false}") boolean verificationSweepEnabled) {
+        this.schoolRepository = schoolRepository;
+        this.schoolMinimalCache = schoolMinimalCache;
+        this.featuredLeaderboard = featuredLeaderboard;
+        this.schoolSearchIndex = schoolSearchIndex;
+        this.schoolStatsService = schoolStatsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.inactivityPeriod = inactivityPeriod;
+        this.accreditationSweepEnabled = accreditationSweepEnabled;
+        this.inactivitySweepEnabled = inactivitySweepEnabled;
+        this.verificationSweepEnabled = verificationSweepEnabled;
+
+        meterRegistry.gauge("school.sweeps.running", runningJobs, Set::size);
+    }
+
+    /* =======================
+       JOBS
+       ======================= */
+
+    public SchoolSweepReportDTO expireAccreditations() {
+        LocalDateTime now = LocalDateTime.now();
+        return run(SchoolSweepJob.EXPIRE_ACCREDITATIONS, "now=" + now,
+                (after, page) -> schoolRepository.findExpiredAccreditationIdsAfter(after, now, page),
+                ids -> schoolRepository.expireAccreditations(ids, now));
+    }
+
+    public SchoolSweepReportDTO deactivateInactiveSchools(LocalDateTime cutoff) {
+        return run(SchoolSweepJob.DEACTIVATE_INACTIVE, "cutoff=" + cutoff,
+                (after, page) -> schoolRepository.findInactiveIdsAfter(after, cutoff, page),
+                ids -> schoolRepository.deactivate(ids, cutoff, SchoolStatus.INACTIVE));
+    }
+
+    public SchoolSweepReportDTO verifyPendingSchools() {
+        LocalDateTime now = LocalDateTime.now();
+        return run(SchoolSweepJob.VERIFY_PENDING, null,
+                (after, page) -> schoolRepository.findIdsByStatusAfter(after, SchoolStatus.PENDING_VERIFICATION, page),
+                ids -> schoolRepository.verifyPending(ids, now, SchoolStatus.PENDING_VERIFICATION, SchoolStatus.ACTIVE));
+    }
+
+    public Optional<SchoolSweepReportDTO> getLastReport(SchoolSweepJob job) {
+        return Optional.ofNullable(lastReports.get(job));
+    }
+
+    /* =======================
+       SCHEDULES
+       ======================= */
+
+    @Scheduled(cron = "${school.sweeps.accreditation.cron:0 15 2 * * *}")
+    public void scheduledAccreditationSweep() {
+        if (accreditationSweepEnabled) {
+            runScheduled(this::expireAccreditations);
+        }
+    }
+
+    @Scheduled(cron = "${school.sweeps.inactivity.cron:0 30 2 * * *}")
+    public void scheduledInactivitySweep() {
+        if (inactivitySweepEnabled) {
+            runScheduled(() -> deactivateInactiveSchools(LocalDateTime.now().minus(inactivityPeriod)));
+        }
+    }
+
+    @Scheduled(cron = "${school.sweeps.verification.cron:0 45 2 * * *}")
+    public void scheduledVerificationSweep() {
+        if (verificationSweepEnabled) {
+            runScheduled(this::verifyPendingSchools);
+        }
+    }
+
+    private void runScheduled(Supplier<SchoolSweepReportDTO> sweep) {
+        try {
+            sweep.get();
+        } catch (Exception e) {
+            // Already reported and logged by run()
+            log.debug("Scheduled school sweep failed: {}", e.getMessage());
+        }
+    }
+
+    /* =======================
+       CHUNK RUNNER
+       ======================= */
+
+    private SchoolSweepReportDTO run(SchoolSweepJob job,
+                                     String parameters,
+                                     BiFunction<UUID, Pageable, List<UUID>> nextIds,
+                                     Function<List<UUID>, Integer> bulkUpdate) {
+        if (!runningJobs.add(job)) {
+            throw new RuntimeException("Sweep already running: " + job);
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        Timer chunkTimer = Timer.builder("school.sweeps.chunk.duration")
+                .tag("job", job.name())
+                .register(meterRegistry);
+        long candidates = 0;
+        long updated = 0;
+        long chunks = 0;
+        UUID after = START;
+        String error = null;
+
+        try {
+            while (true) {
+                UUID from = after;
+                long chunkStart = System.nanoTime();
+                int[] chunkUpdated = new int[1];
+                List<UUID> ids = transactionTemplate.execute(status -> {
+                    List<UUID> next = nextIds.apply(from, PageRequest.of(0, chunkSize));
+                    if (!next.isEmpty()) {
+                        chunkUpdated[0] = bulkUpdate.apply(next);
+                    }
+                    return next;
+                });
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+                chunkTimer.record(Duration.ofNanos(System.nanoTime() - chunkStart));
+
+                // Committed: bulk updates bypass the entity listener, so drop the cached views here
+                ids.forEach(schoolMinimalCache::invalidate);
+                candidates += ids.size();
+                updated += chunkUpdated[0];
+                chunks++;
+                after = ids.get(ids.size() - 1);
+            }
+        } catch (RuntimeException e) {
+            error = String.valueOf(e.getMessage());
+            log.error("{} failed after id {}: {}", job, after, e.getMessage(), e);
+            meterRegistry.counter("school.sweeps.failures", "job", job.name()).increment();
+        } finally {
+            runningJobs.remove(job);
+        }
+
+        if (updated > 0) {
+            refreshViews(job);
+        }
+
+        LocalDateTime finishedAt = LocalDateTime.now();
+        long durationMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        SchoolSweepReportDTO report = new SchoolSweepReportDTO(
+                job.name(), error == null ? COMPLETED : FAILED, parameters,
+                candidates, updated, chunks, startedAt, finishedAt, durationMs, error);
+        lastReports.put(job, report);
+
+        meterRegistry.counter("school.sweeps.rows", "job", job.name(), "kind", "candidates").increment(candidates);
+        meterRegistry.counter("school.sweeps.rows", "job", job.name(), "kind", "updated").increment(updated);
+        meterRegistry.timer("school.sweeps.run.duration", "job", job.name()).record(Duration.ofMillis(durationMs));
+        log.info("{} {}: {} candidates, {} updated in {} chunks, {} ms",
+                job, report.getStatus(), candidates, updated, chunks, durationMs);
+
+        if (error != null) {
+            throw new RuntimeException("Sweep " + job + " failed: " + error);
+        }
+        return report;
+    }
+
+    private void refreshViews(SchoolSweepJob job) {
+        schoolStatsService.invalidate();
+        if (job == SchoolSweepJob.EXPIRE_ACCREDITATIONS) {
+            // Accreditation is neither searched nor shown on the leaderboard
+            return;
+        }
+        try {
+            featuredLeaderboard.refresh();
+            schoolSearchIndex.rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh school views after {}, the scheduled reconciliation will: {}", job, e.getMessage());
+        }
+    }
+}
@@ -1,20 +1,40 @@
 package com.service.school.service;
 
+import com.service.school.cache.FeaturedSchoolLeaderboard;
+import com.service.school.cache.SchoolMinimalCache;
+import com.service.school.cache.SchoolMinimalSnapshot;
+import com.service.school.dto.SchoolCounterBatchResultDTO;
+import com.service.school.dto.SchoolCounterDeltaDTO;
+import com.service.school.dto.SchoolFilterDTO;
 import com.service.school.dto.SchoolMinimalDTO;
+import com.service.school.dto.SchoolPageDTO;
+import com.service.school.dto.SchoolStatsDTO;
+import com.service.school.dto.SchoolSummaryDTO;
+import com.service.school.dto.SchoolSweepReportDTO;
 import com.service.school.dto.UpdateSchoolDTO;
 import com.service.school.entity.School;
 import com.service.school.enums.SchoolStatus;
+import com.service.school.enums.SchoolSweepJob;
 import com.service.school.enums.SchoolType;
 import com.service.school.repository.SchoolRepository;
+import com.service.school.repository.SchoolSpecifications;
+import com.service.school.search.SchoolSearchHit;
+import com.service.school.search.SchoolSearchIndex;
+import com.service.school.search.SchoolSearchPage;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -22,7 +42,17 @@ import java.util.UUID;
 @Transactional
 public class ServiceSchool implements IServiceSchool {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final SchoolRepository schoolRepository;
+    private final SchoolCounterService schoolCounterService;
+    private final SchoolGeoSearchService schoolGeoSearchService;
+    private final SchoolSearchIndex schoolSearchIndex;
+    private final SchoolMinimalCache schoolMinimalCache;
+    private final FeaturedSchoolLeaderboard featuredSchoolLeaderboard;
+    private final SchoolStatsService schoolStatsService;
+    private final SchoolSweepService schoolSweepService;
 
     @Override
     public School createSchool(School school) {
@@ -228,11 +258,71 @@ public class ServiceSchool implements IServiceSchool {
         return schoolRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public SchoolPageDTO getSchoolsPage(SchoolFilterDTO filter, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String[] after = decodeCursor(cursor);
+
+        // One extra row tells whether there is a next page
+        List<SchoolSummaryDTO> schools = schoolRepository.findSummaries(SchoolSpecifications.matching(filter),
+                after == null ? null : after[0], after == null ? null : UUID.fromString(after[1]), pageSize + 1);
+        boolean hasMore = schools.size() > pageSize;
+        if (hasMore) {
+            schools = schools.subList(0, pageSize);
+        }
+
+        String nextCursor = hasMore ? encodeCursor(schools.get(schools.size() - 1)) : null;
+        return new SchoolPageDTO(schools, schools.size(), hasMore, nextCursor);
+    }
+
+    private String encodeCursor(SchoolSummaryDTO last) {
+        String raw = last.getId() + "|" + last.getName();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // {name, id} of the last school of the previous page, or null for the first page
+    private String[] decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            // The id goes first: it has a fixed length and the name may contain the separator
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            String id = UUID.fromString(raw.substring(0, separator)).toString();
+            return new String[]{raw.substring(separator + 1), id};
+        } catch (Exception e) {
+            throw new RuntimeException("Invalid cursor: " + cursor);
+        }
+    }
+
     @Override
     public List<School> searchSchools(String keyword) {
-        log.debug("Searching schools with keyword: {}", keyword);
+        // Unpaged like the former LIKE search: every match, best first
+        return searchSchools(keyword, 0, Integer.MAX_VALUE).matches().stream()
+                .map(SchoolSearchMatch::school)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SchoolSearchResult searchSchools(String keyword, int page, int size) {
+        log.debug("Searching schools with keyword: {} (page {}, size {})", keyword, page, size);
 
-        return schoolRepository.searchSchools(keyword);
+        SchoolSearchPage hits = schoolSearchIndex.search(keyword, page, size);
+        Map<UUID, School> schools = schoolRepository.findAllById(
+                        hits.hits().stream().map(SchoolSearchHit::schoolId).toList())
+                .stream()
+                .collect(Collectors.toMap(School::getId, school -> school));
+
+        // Keep the ranking of the index; a school deleted since it was indexed is skipped
+        List<SchoolSearchMatch> matches = hits.hits().stream()
+                .filter(hit -> schools.containsKey(hit.schoolId()))
+                .map(hit -> new SchoolSearchMatch(schools.get(hit.schoolId()), hit.score()))
+                .collect(Collectors.toList());
+        return new SchoolSearchResult(matches, hits.total());
     }
 
     @Override
@@ -378,70 +468,78 @@ public class ServiceSchool implements IServiceSchool {
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<School> getTopFeaturedSchools(int limit) {
         log.debug("Fetching top {} featured schools", limit);
 
-        return schoolRepository.findTopFeaturedSchools(limit);
+        return featuredSchoolLeaderboard.getTop(limit);
     }
 
     @Override
     public School incrementStudentCount(UUID schoolId) {
         log.debug("Incrementing student count for school: {}", schoolId);
 
-        School school = getSchoolById(schoolId);
-        school.incrementStudentCount();
-
-        return schoolRepository.save(school);
+        schoolCounterService.addStudents(schoolId, 1);
+        return getSchoolById(schoolId);
     }
 
     @Override
     public School decrementStudentCount(UUID schoolId) {
         log.debug("Decrementing student count for school: {}", schoolId);
 
-        School school = getSchoolById(schoolId);
-        school.decrementStudentCount();
-
-        return schoolRepository.save(school);
+        schoolCounterService.addStudents(schoolId, -1);
+        return getSchoolById(schoolId);
     }
 
     @Override
     public School incrementTeacherCount(UUID schoolId) {
         log.debug("Incrementing teacher count for school: {}", schoolId);
 
-        School school = getSchoolById(schoolId);
-        school.incrementTeacherCount();
-
-        return schoolRepository.save(school);
+        schoolCounterService.addTeachers(schoolId, 1);
+        return getSchoolById(schoolId);
     }
 
     @Override
     public School decrementTeacherCount(UUID schoolId) {
         log.debug("Decrementing teacher count for school: {}", schoolId);
 
-        School school = getSchoolById(schoolId);
-        school.decrementTeacherCount();
-
-        return schoolRepository.save(school);
+        schoolCounterService.addTeachers(schoolId, -1);
+        return getSchoolById(schoolId);
     }
 
     @Override
     public School updateStudentCount(UUID schoolId, Integer count) {
         log.info("Updating student count for school {} to {}", schoolId, count);
 
-        School school = getSchoolById(schoolId);
-        school.setTotalStudents(count);
+        if (schoolRepository.setTotalStudents(schoolId, count) == 0) {
+            throw new RuntimeException("School not found with id: " + schoolId);
+        }
+        return getSchoolById(schoolId);
+    }
 
-        return schoolRepository.save(school);
+    @Override
+    public School adjustStudentCount(UUID schoolId, int delta) {
+        log.debug("Adjusting student count for school {} by {}", schoolId, delta);
+
+        schoolCounterService.addStudents(schoolId, delta);
+        return getSchoolById(schoolId);
     }
 
     @Override
     public School updateTeacherCount(UUID schoolId, Integer count) {
         log.info("Updating teacher count for school {} to {}", schoolId, count);
 
-        School school = getSchoolById(schoolId);
-        school.setTotalTeachers(count);
+        if (schoolRepository.setTotalTeachers(schoolId, count) == 0) {
+            throw new RuntimeException("School not found with id: " + schoolId);
+        }
+        return getSchoolById(schoolId);
+    }
 
-        return schoolRepository.save(school);
+    @Override
+    public SchoolCounterBatchResultDTO applyCounterDeltas(List<SchoolCounterDeltaDTO> deltas) {
+        log.info("Applying {} school counter deltas", deltas.size());
+
+        return schoolCounterService.applyBatch(deltas);
     }
 
     @Override
@@ -522,12 +620,33 @@ public class ServiceSchool implements IServiceSchool {
         return schoolRepository.sumTotalTeachers();
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public SchoolStatsDTO getSchoolStats() {
+        return schoolStatsService.getStats();
+    }
+
     @Override
     public List<School> getSchoolsNearLocation(Double latitude, Double longitude, Double radiusKm) {
         log.debug("Fetching schools near location: lat={}, long={}, radius={}km", latitude, longitude, radiusKm);
 
-        // This is a simplified version - in production, you'd use PostGIS or similar
-        return schoolRepository.findSchoolsNearLocation(latitude, longitude, radiusKm);
+        return schoolGeoSearchService.withinRadius(latitude, longitude, radiusKm, null).stream()
+                .map(SchoolDistance::school)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SchoolDistance> getSchoolsWithinRadius(Double latitude, Double longitude, Double radiusKm, Integer limit) {
+        log.debug("Fetching schools within {}km of lat={}, long={}", radiusKm, latitude, longitude);
+
+        return schoolGeoSearchService.withinRadius(latitude, longitude, radiusKm, limit);
+    }
+
+    @Override
+    public List<SchoolDistance> getNearestSchools(Double latitude, Double longitude, int k, Double maxRadiusKm) {
+        log.debug("Fetching {} nearest schools to lat={}, long={}", k, latitude, longitude);
+
+        return schoolGeoSearchService.nearest(latitude, longitude, k, maxRadiusKm);
     }
 
     @Override
@@ -538,64 +657,61 @@ public class ServiceSchool implements IServiceSchool {
     }
 
     @Override
-    public void verifyAllPendingSchools() {
+    // The sweeps run their own chunk transactions
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SchoolSweepReportDTO verifyAllPendingSchools() {
         log.info("Verifying all pending schools");
 
-        List<School> pendingSchools = schoolRepository.findByStatus(SchoolStatus.PENDING_VERIFICATION);
-        pendingSchools.forEach(school -> {
-            school.verify();
-            school.setStatus(SchoolStatus.ACTIVE);
-        });
-
-        schoolRepository.saveAll(pendingSchools);
-        log.info("Verified {} pending schools", pendingSchools.size());
+        return schoolSweepService.verifyPendingSchools();
     }
 
     @Override
-    public void deactivateInactiveSchools(LocalDateTime cutoffDate) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SchoolSweepReportDTO deactivateInactiveSchools(LocalDateTime cutoffDate) {
         log.info("Deactivating inactive schools since {}", cutoffDate);
 
-        List<School> inactiveSchools = schoolRepository.findInactiveSchoolsSince(cutoffDate);
-        inactiveSchools.forEach(school -> {
-            school.deactivate();
-            school.setStatus(SchoolStatus.INACTIVE);
-        });
-
-        schoolRepository.saveAll(inactiveSchools);
-        log.info("Deactivated {} inactive schools", inactiveSchools.size());
+        return schoolSweepService.deactivateInactiveSchools(cutoffDate);
     }
 
     @Override
-    public void updateAccreditationStatuses() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SchoolSweepReportDTO updateAccreditationStatuses() {
         log.info("Updating accreditation statuses");
 
-        List<School> schools = schoolRepository.findAll();
-        schools.forEach(school -> {
-            if (school.getAccreditationExpiryDate() != null &&
-                    school.getAccreditationExpiryDate().isBefore(LocalDateTime.now())) {
-                school.setAccreditationStatus("EXPIRED");
-            }
-        });
+        return schoolSweepService.expireAccreditations();
+    }
 
-        schoolRepository.saveAll(schools);
-        log.info("Updated accreditation statuses for {} schools", schools.size());
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SchoolSweepReportDTO getSweepReport(SchoolSweepJob job) {
+        return schoolSweepService.getLastReport(job)
+                .orElseThrow(() -> new RuntimeException("No run recorded for sweep: " + job));
     }
 
     @Override
+    // Served from the minimal cache: no transaction (and no connection) on a hit
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public SchoolMinimalDTO getSchoolMinimalById(UUID id) {
         log.debug("Fetching minimal school by ID: {}", id);
-        
-        School school = getSchoolById(id);
-        SchoolMinimalDTO dto = new SchoolMinimalDTO();
-        dto.setId(school.getId());
-        dto.setName(school.getName());
-        dto.setSlug(school.getSlug());
-        dto.setLogoUrl(school.getLogoUrl());
-        dto.setType(school.getType());
-        dto.setIsActive(school.getIsActive());
-        dto.setCity(school.getCity());
-        dto.setCountry(school.getCountry());
-        
-        return dto;
+
+        return getSchoolMinimalSnapshot(id)
+                .map(SchoolMinimalSnapshot::toDTO)
+                .orElseThrow(() -> new RuntimeException("School not found with id: " + id));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<SchoolMinimalSnapshot> getSchoolMinimalSnapshot(UUID id) {
+        return schoolMinimalCache.get(id);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<SchoolMinimalDTO> getSchoolsMinimalByIds(List<UUID> ids) {
+        log.debug("Fetching minimal schools for {} ids", ids.size());
+
+        return schoolMinimalCache.getAll(ids).stream()
+                .map(SchoolMinimalSnapshot::toDTO)
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
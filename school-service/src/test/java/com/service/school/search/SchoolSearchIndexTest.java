@@ -0,0 +1,109 @@
+package com.service.school.search;
+
+import com.service.school.entity.School;
+import com.service.school.enums.SchoolStatus;
+import com.service.school.repository.SchoolRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SchoolSearchIndexTest {
+
+    private final SchoolRepository schoolRepository = mock(SchoolRepository.class);
+    private final SchoolSearchIndex index = new SchoolSearchIndex(schoolRepository, new SimpleMeterRegistry(), false);
+
+    @Test
+    void tokenizeFoldsCaseAndAccentsAndDropsShortTokens() {
+        assertThat(SchoolSearchIndex.tokenize("École Supérieure d'Ingénieurs - Sfax"))
+                .containsExactly("ecole", "superieure", "ingenieurs", "sfax");
+        assertThat(SchoolSearchIndex.tokenize("ISET_Sousse 2024")).containsExactly("iset", "sousse", "2024");
+        assertThat(SchoolSearchIndex.tokenize("  ")).isEmpty();
+        assertThat(SchoolSearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void editDistanceCountsEditsAndTranspositions() {
+        assertThat(SchoolSearchIndex.editDistance("school", "school", 2)).isZero();
+        assertThat(SchoolSearchIndex.editDistance("school", "schol", 2)).isEqualTo(1);
+        assertThat(SchoolSearchIndex.editDistance("school", "schoool", 2)).isEqualTo(1);
+        assertThat(SchoolSearchIndex.editDistance("school", "shcool", 2)).isEqualTo(1);
+        assertThat(SchoolSearchIndex.editDistance("university", "univresity", 2)).isEqualTo(1);
+        assertThat(SchoolSearchIndex.editDistance("kitten", "sitting", 3)).isEqualTo(3);
+    }
+
+    @Test
+    void editDistanceStopsAboveTheBound() {
+        assertThat(SchoolSearchIndex.editDistance("engineering", "medicine", 2)).isEqualTo(3);
+        assertThat(SchoolSearchIndex.editDistance("abcd", "wxyz", 1)).isEqualTo(2);
+    }
+
+    @Test
+    void searchFindsPrefixesAndTypos() {
+        School school = school("Institut Supérieur des Études Technologiques");
+        when(schoolRepository.findAll()).thenReturn(List.of(school));
+
+        assertThat(ids(index.search("techno", 0, 10))).containsExactly(school.getId());
+        assertThat(ids(index.search("institu etudes", 0, 10))).containsExactly(school.getId());
+        assertThat(ids(index.search("technologiqeus", 0, 10))).containsExactly(school.getId());
+        assertThat(ids(index.search("medecine", 0, 10))).isEmpty();
+    }
+
+    @Test
+    void changesCommittedDuringARebuildAreNotLost() {
+        School deleted = school("Faculté de Médecine");
+        School renamed = school("Ecole Polytechnique");
+        School created = school("Ecole Nationale d'Architecture");
+        when(schoolRepository.findAll()).thenAnswer(invocation -> {
+            // Committed while the first build reads the database, after the rows were read
+            index.remove(deleted.getId());
+            School updated = school("Ecole Polytechnique de Tunisie");
+            updated.setId(renamed.getId());
+            index.index(updated);
+            index.index(created);
+            return List.of(deleted, renamed);
+        });
+
+        assertThat(ids(index.search("medecine", 0, 10))).isEmpty();
+        assertThat(ids(index.search("tunisie", 0, 10))).containsExactly(renamed.getId());
+        assertThat(ids(index.search("architecture", 0, 10))).containsExactly(created.getId());
+    }
+
+    @Test
+    void firstLoadReadsTheDatabaseOnce() throws InterruptedException {
+        when(schoolRepository.findAll()).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return List.of(school("Ecole Supérieure de Commerce"));
+        });
+
+        Thread[] searches = new Thread[8];
+        for (int i = 0; i < searches.length; i++) {
+            searches[i] = new Thread(() -> index.search("commerce", 0, 10));
+            searches[i].start();
+        }
+        for (Thread search : searches) {
+            search.join();
+        }
+
+        verify(schoolRepository, times(1)).findAll();
+    }
+
+    private static School school(String name) {
+        School school = new School();
+        school.setId(UUID.randomUUID());
+        school.setName(name);
+        school.setStatus(SchoolStatus.ACTIVE);
+        return school;
+    }
+
+    private static List<UUID> ids(SchoolSearchPage page) {
+        return page.hits().stream().map(SchoolSearchHit::schoolId).toList();
+    }
+}
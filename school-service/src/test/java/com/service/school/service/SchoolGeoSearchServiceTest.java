@@ -0,0 +1,77 @@
+package com.service.school.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SchoolGeoSearchServiceTest {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    @Test
+    void haversineMatchesKnownDistances() {
+        // Paris - London
+        assertThat(SchoolGeoSearchService.haversineKm(48.8566, 2.3522, 51.5074, -0.1278)).isCloseTo(343.6, within(1.0));
+        // Tunis - Sfax
+        assertThat(SchoolGeoSearchService.haversineKm(36.8065, 10.1815, 34.7406, 10.7603)).isCloseTo(235.1, within(1.0));
+        // Equator to pole, and to the antipode
+        assertThat(SchoolGeoSearchService.haversineKm(0, 0, 90, 0)).isCloseTo(Math.PI / 2 * EARTH_RADIUS_KM, within(1e-6));
+        assertThat(SchoolGeoSearchService.haversineKm(0, 0, 0, 180)).isCloseTo(Math.PI * EARTH_RADIUS_KM, within(1e-6));
+        assertThat(SchoolGeoSearchService.haversineKm(36.8, 10.1, 36.8, 10.1)).isZero();
+    }
+
+    @Test
+    void haversineIsShortAcrossTheAntimeridian() {
+        // 0.2 degree of longitude on the equator, not 359.8
+        assertThat(SchoolGeoSearchService.haversineKm(0, 179.9, 0, -179.9)).isCloseTo(22.24, within(0.05));
+    }
+
+    @Test
+    void boundingBoxContainsTheCircle() {
+        List<double[]> boxes = SchoolGeoSearchService.boundingBoxes(45, 10, 100);
+
+        assertThat(boxes).hasSize(1);
+        double[] box = boxes.get(0);
+        // 100 km is about 0.8993 degree of latitude
+        assertThat(box[0]).isCloseTo(44.1007, within(1e-3));
+        assertThat(box[1]).isCloseTo(45.8993, within(1e-3));
+        // Meridians converge: the longitude span is wider than the latitude span at 45 degrees
+        assertThat(box[2]).isLessThan(10 - 0.8993 * Math.sqrt(2) + 0.01);
+        assertThat(box[3]).isGreaterThan(10 + 0.8993 * Math.sqrt(2) - 0.01);
+    }
+
+    @Test
+    void boundingBoxIsSplitAtTheAntimeridian() {
+        List<double[]> east = SchoolGeoSearchService.boundingBoxes(0, 179.5, 100);
+
+        assertThat(east).hasSize(2);
+        assertThat(east.get(0)[2]).isCloseTo(178.6007, within(1e-3));
+        assertThat(east.get(0)[3]).isEqualTo(180);
+        assertThat(east.get(1)[2]).isEqualTo(-180);
+        assertThat(east.get(1)[3]).isCloseTo(-179.6007, within(1e-3));
+
+        List<double[]> west = SchoolGeoSearchService.boundingBoxes(0, -179.5, 100);
+
+        assertThat(west).hasSize(2);
+        assertThat(west.get(0)[2]).isCloseTo(179.6007, within(1e-3));
+        assertThat(west.get(0)[3]).isEqualTo(180);
+        assertThat(west.get(1)[2]).isEqualTo(-180);
+        assertThat(west.get(1)[3]).isCloseTo(-178.6007, within(1e-3));
+    }
+
+    @Test
+    void boundingBoxAroundAPoleCoversAllLongitudes() {
+        List<double[]> north = SchoolGeoSearchService.boundingBoxes(89.5, 40, 100);
+
+        assertThat(north).hasSize(1);
+        assertThat(north.get(0)).containsExactly(new double[]{88.6007, 90, -180, 180}, within(1e-3));
+
+        List<double[]> south = SchoolGeoSearchService.boundingBoxes(-89.5, -120, 100);
+
+        assertThat(south).hasSize(1);
+        assertThat(south.get(0)).containsExactly(new double[]{-90, -88.6007, -180, 180}, within(1e-3));
+    }
+}
@@ -0,0 +1,136 @@
+package com.service.student.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, in-process cache of remote "minimal" DTOs keyed by id.
+ * <p>
+ * Entries are kept in LRU order and expire after a fixed TTL. A {@code null} value marks
+ * an id the owning service does not know (negative entry) and lives for the shorter
+ * negative TTL, so repeated lookups of a deleted reference stay local.
+ */
+public class ReferenceCache<T> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+
+    private final LinkedHashMap<UUID, Entry<T>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ReferenceCache(String name, int maxSize, Duration ttl, Duration negativeTtl) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry<T>> eldest) {
+                if (size() > ReferenceCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value, or loads it. The loader returns {@code null} when the id is
+     * unknown (cached as negative) and throws when the lookup failed (nothing is cached).
+     */
+    public T get(UUID id, Function<UUID, T> loader) {
+        Optional<T> cached = getIfPresent(id);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        T value = loader.apply(id);
+        put(id, value);
+        return value;
+    }
+
+    /**
+     * Returns the cached state of an id: {@code null} on a miss, an empty {@link Optional}
+     * for a negative entry, or the cached value.
+     */
+    public synchronized Optional<T> getIfPresent(UUID id) {
+        Entry<T> entry = entries.get(id);
+        if (entry == null || entry.isExpired()) {
+            if (entry != null) entries.remove(id);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return Optional.ofNullable(entry.value);
+    }
+
+    /**
+     * Bulk variant of {@link #getIfPresent(UUID)}: only ids with a live entry are returned.
+     */
+    public synchronized Map<UUID, Optional<T>> getAllPresent(Collection<UUID> ids) {
+        Map<UUID, Optional<T>> present = new HashMap<>();
+        for (UUID id : ids) {
+            Optional<T> cached = getIfPresent(id);
+            if (cached != null) present.put(id, cached);
+        }
+        return present;
+    }
+
+    public synchronized void put(UUID id, T value) {
+        long ttl = value == null ? negativeTtlNanos : ttlNanos;
+        entries.put(id, new Entry<>(value, System.nanoTime() + ttl));
+    }
+
+    public synchronized void invalidate(UUID id) {
+        entries.remove(id);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("student.reference.cache.size", this, ReferenceCache::size)
+                .tag("cache", name)
+                .register(registry);
+        FunctionCounter.builder("student.reference.cache.requests", hits, LongAdder::sum)
+                .tag("cache", name).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("student.reference.cache.requests", misses, LongAdder::sum)
+                .tag("cache", name).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("student.reference.cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private record Entry<T>(T value, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.service.student.cache;
+
+import com.service.community.dto.CommunityMinimalDTO;
+import com.service.school.dto.SchoolMinimalDTO;
+import com.service.user.dto.user.UserMinimalDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Near-caches for the user, school and community references shown on student reads.
+ */
+@Slf4j
+@Component
+public class StudentReferenceCaches {
+
+    public static final String USERS = "users";
+    public static final String SCHOOLS = "schools";
+    public static final String COMMUNITIES = "communities";
+
+    private final ReferenceCache<UserMinimalDTO> users;
+    private final ReferenceCache<SchoolMinimalDTO> schools;
+    private final ReferenceCache<CommunityMinimalDTO> communities;
+
+    public StudentReferenceCaches(
+            MeterRegistry meterRegistry,
+            @Value("${student.reference-cache.max-size:10000}") int maxSize,
+            @Value("${student.reference-cache.negative-ttl:1m}") Duration negativeTtl,
+            @Value("${student.reference-cache.users.ttl:10m}") Duration usersTtl,
+            @Value("${student.reference-cache.schools.ttl:1h}") Duration schoolsTtl,
+            @Value("${student.reference-cache.communities.ttl:30m}") Duration communitiesTtl) {
+        this.users = new ReferenceCache<>(USERS, maxSize, usersTtl, negativeTtl);
+        this.schools = new ReferenceCache<>(SCHOOLS, maxSize, schoolsTtl, negativeTtl);
+        this.communities = new ReferenceCache<>(COMMUNITIES, maxSize, communitiesTtl, negativeTtl);
+
+        users.bindTo(meterRegistry);
+        schools.bindTo(meterRegistry);
+        communities.bindTo(meterRegistry);
+    }
+
+    public ReferenceCache<UserMinimalDTO> users() {
+        return users;
+    }
+
+    public ReferenceCache<SchoolMinimalDTO> schools() {
+        return schools;
+    }
+
+    public ReferenceCache<CommunityMinimalDTO> communities() {
+        return communities;
+    }
+
+    public boolean exists(String cacheName) {
+        return USERS.equals(cacheName) || SCHOOLS.equals(cacheName) || COMMUNITIES.equals(cacheName);
+    }
+
+    public void invalidate(String cacheName, UUID id) {
+        log.debug("Invalidating {} reference cache entry {}", cacheName, id);
+        byName(cacheName).invalidate(id);
+    }
+
+    public void invalidateAll(String cacheName) {
+        log.info("Invalidating whole {} reference cache", cacheName);
+        byName(cacheName).invalidateAll();
+    }
+
+    private ReferenceCache<?> byName(String cacheName) {
+        return switch (cacheName) {
+            case USERS -> users;
+            case SCHOOLS -> schools;
+            case COMMUNITIES -> communities;
+            default -> throw new RuntimeException("Unknown reference cache: " + cacheName);
+        };
+    }
+}
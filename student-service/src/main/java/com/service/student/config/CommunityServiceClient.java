@@ -4,7 +4,11 @@ import com.service.community.dto.CommunityMinimalDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @FeignClient(name = "community-service")
@@ -12,5 +16,8 @@ public interface CommunityServiceClient {
 
     @GetMapping("/api/communities/{id}/minimal")
     CommunityMinimalDTO getCommunityMinimalById(@PathVariable("id") UUID id);
+
+    @PostMapping("/api/communities/minimal/batch")
+    List<CommunityMinimalDTO> getCommunitiesMinimalByIds(@RequestBody Collection<UUID> ids);
 }
 
@@ -1,10 +1,16 @@
 package com.service.student.config;
 
+import com.service.school.dto.SchoolCounterBatchResultDTO;
+import com.service.school.dto.SchoolCounterDeltaDTO;
 import com.service.school.dto.SchoolMinimalDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @FeignClient(name = "school-service")
@@ -12,5 +18,11 @@ public interface SchoolServiceClient {
 
     @GetMapping("/api/schools/{id}/minimal")
     SchoolMinimalDTO getSchoolMinimalById(@PathVariable("id") UUID id);
+
+    @PostMapping("/api/schools/minimal/batch")
+    List<SchoolMinimalDTO> getSchoolsMinimalByIds(@RequestBody Collection<UUID> ids);
+
+    @PostMapping("/api/schools/counters/batch")
+    SchoolCounterBatchResultDTO applyCounterDeltas(@RequestBody List<SchoolCounterDeltaDTO> deltas);
 }
 
@@ -4,7 +4,11 @@ import com.service.user.dto.user.UserMinimalDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @FeignClient(name = "user-service")
@@ -15,4 +19,7 @@ public interface UserServiceClient {
 
     @GetMapping("/api/users/email/{email}/minimal")
     UserMinimalDTO getUserMinimalByEmail(@PathVariable("email") String email);
+
+    @PostMapping("/api/users/minimal/batch")
+    List<UserMinimalDTO> getUsersMinimalByIds(@RequestBody Collection<UUID> ids);
 }
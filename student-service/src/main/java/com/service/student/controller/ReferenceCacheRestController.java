@@ -0,0 +1,40 @@
+package com.service.student.controller;
+
+import com.service.student.cache.StudentReferenceCaches;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Invalidation hook for the student-service near-caches. Owning services call it when a
+ * user, school or community changes; {cache} is one of users, schools or communities.
+ */
+@RestController
+@RequestMapping("/api/students/reference-cache")
+@RequiredArgsConstructor
+public class ReferenceCacheRestController {
+
+    private final StudentReferenceCaches referenceCaches;
+
+    @DeleteMapping("/{cache}/{id}")
+    public ResponseEntity<Void> invalidate(
+            @PathVariable String cache,
+            @PathVariable UUID id) {
+        if (!referenceCaches.exists(cache)) {
+            return ResponseEntity.notFound().build();
+        }
+        referenceCaches.invalidate(cache, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{cache}")
+    public ResponseEntity<Void> invalidateAll(@PathVariable String cache) {
+        if (!referenceCaches.exists(cache)) {
+            return ResponseEntity.notFound().build();
+        }
+        referenceCaches.invalidateAll(cache);
+        return ResponseEntity.noContent().build();
+    }
+}
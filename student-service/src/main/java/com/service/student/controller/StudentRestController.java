@@ -2,18 +2,33 @@ package com.service.student.controller;
 
 import com.service.student.dto.request.AcademicUpdateDTO;
 import com.service.student.dto.request.CreateStudentDTO;
+import com.service.student.dto.request.StudentFilterDTO;
 import com.service.student.dto.request.UpdateStudentDTO;
+import com.service.student.dto.response.BatchJobReportDTO;
 import com.service.student.dto.response.StudentDTO;
+import com.service.student.dto.response.StudentImportReportDTO;
+import com.service.student.dto.response.StudentPageDTO;
 import com.service.student.dto.response.StudentResponseDTO;
 import com.service.student.enums.EnrollmentStatus;
+import com.service.student.enums.ExportFormat;
+import com.service.student.enums.MaintenanceJob;
 import com.service.student.service.IServiceStudent;
+import com.service.student.service.StudentExportService;
+import com.service.student.service.StudentImportService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,7 +38,11 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class StudentRestController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final IServiceStudent studentService;
+    private final StudentExportService studentExportService;
+    private final StudentImportService studentImportService;
 
     /* =======================
        CREATE & READ
@@ -36,9 +55,14 @@ public class StudentRestController {
                 .body(studentService.createStudent(studentDTO));
     }
 
+    // fields=a,b,c returns only those StudentResponseDTO properties
     @GetMapping("/{id}")
-    public ResponseEntity<StudentResponseDTO> getStudentById(
-            @PathVariable UUID id) {
+    public ResponseEntity<?> getStudentById(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(studentService.getStudentFieldsById(id, fields));
+        }
         return ResponseEntity.ok(studentService.getStudentResponseById(id));
     }
 
@@ -49,7 +73,7 @@ public class StudentRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<StudentResponseDTO>> getAllStudents(
+    public ResponseEntity<?> getAllStudents(
             @RequestParam(required = false) UUID schoolId,
             @RequestParam(required = false) String program,
             @RequestParam(required = false) String major,
@@ -58,36 +82,44 @@ public class StudentRestController {
             @RequestParam(required = false) Boolean international,
             @RequestParam(required = false) Boolean graduated,
             @RequestParam(required = false) UUID communityId,
-            @RequestParam(required = false) UUID advisorId) {
-
-        if (schoolId != null)
-            return ResponseEntity.ok(studentService.getStudentsBySchool(schoolId));
-
-        if (program != null)
-            return ResponseEntity.ok(studentService.getStudentsByProgram(program));
-
-        if (major != null)
-            return ResponseEntity.ok(studentService.getStudentsByMajor(major));
-
-        if (status != null)
-            return ResponseEntity.ok(studentService.getStudentsByEnrollmentStatus(status));
-
-        if (academicLevel != null)
-            return ResponseEntity.ok(studentService.getStudentsByAcademicLevel(academicLevel));
-
-        if (Boolean.TRUE.equals(international))
-            return ResponseEntity.ok(studentService.getInternationalStudents());
-
-        if (Boolean.TRUE.equals(graduated))
-            return ResponseEntity.ok(studentService.getGraduatedStudents());
-
-        if (communityId != null)
-            return ResponseEntity.ok(studentService.getStudentsByCommunity(communityId));
-
-        if (advisorId != null)
-            return ResponseEntity.ok(studentService.getStudentsByAdvisor(advisorId));
+            @RequestParam(required = false) UUID advisorId,
+            @RequestParam(required = false) String fields) {
+
+        StudentFilterDTO filter = new StudentFilterDTO(schoolId, program, major, status,
+                academicLevel, international, graduated, communityId, advisorId);
+        StudentPageDTO<?> page = fields != null
+                ? studentService.getStudentsFields(filter, fields)
+                : studentService.getStudents(filter);
+
+        // Same body as before but bounded like /page; when it is cut, /page?cursor= continues it
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.isHasMore()) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
 
-        return ResponseEntity.ok(studentService.getAllStudents());
+    @GetMapping("/page")
+    public ResponseEntity<StudentPageDTO<?>> getStudentsPage(
+            @RequestParam(required = false) UUID schoolId,
+            @RequestParam(required = false) String program,
+            @RequestParam(required = false) String major,
+            @RequestParam(required = false) EnrollmentStatus status,
+            @RequestParam(required = false) String academicLevel,
+            @RequestParam(required = false) Boolean international,
+            @RequestParam(required = false) Boolean graduated,
+            @RequestParam(required = false) UUID communityId,
+            @RequestParam(required = false) UUID advisorId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields) {
+
+        StudentFilterDTO filter = new StudentFilterDTO(schoolId, program, major, status,
+                academicLevel, international, graduated, communityId, advisorId);
+        if (fields != null) {
+            return ResponseEntity.ok(studentService.getStudentsPageFields(filter, cursor, size, fields));
+        }
+        return ResponseEntity.ok(studentService.getStudentsPage(filter, cursor, size));
     }
 
     @GetMapping("/active")
@@ -97,8 +129,28 @@ public class StudentRestController {
 
     @GetMapping("/search")
     public ResponseEntity<List<StudentResponseDTO>> searchStudents(
-            @RequestParam String keyword) {
-        return ResponseEntity.ok(studentService.searchStudents(keyword));
+            @RequestParam String keyword,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(studentService.searchStudents(keyword, limit));
+    }
+
+    // Body is the raw CSV (with header row) or NDJSON upload, same columns as the export
+    @PostMapping("/import")
+    public ResponseEntity<StudentImportReportDTO> importStudents(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            InputStream body) throws IOException {
+        return ResponseEntity.ok(studentImportService.importStudents(format, body));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStudents(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(required = false) UUID schoolId) {
+        StreamingResponseBody body = out -> studentExportService.exportStudents(format, schoolId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=students." + format.getExtension())
+                .body(body);
     }
 
     /* =======================
@@ -245,14 +297,23 @@ public class StudentRestController {
        ======================= */
 
     @PostMapping("/batch/graduate-eligible")
-    public ResponseEntity<Void> graduateEligibleStudents() {
-        studentService.graduateEligibleStudents();
-        return ResponseEntity.ok().build();
+    public ResponseEntity<BatchJobReportDTO> graduateEligibleStudents() {
+        return ResponseEntity.ok(studentService.graduateEligibleStudents());
     }
 
     @PostMapping("/batch/update-levels")
-    public ResponseEntity<Void> updateAcademicLevels() {
-        studentService.updateAcademicLevels();
-        return ResponseEntity.ok().build();
+    public ResponseEntity<BatchJobReportDTO> updateAcademicLevels() {
+        return ResponseEntity.ok(studentService.updateAcademicLevels());
+    }
+
+    @PostMapping("/batch/deactivate-inactive")
+    public ResponseEntity<BatchJobReportDTO> deactivateInactiveStudents(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cutoffDate) {
+        return ResponseEntity.ok(studentService.deactivateInactiveStudents(cutoffDate));
+    }
+
+    @GetMapping("/batch/jobs/{job}")
+    public ResponseEntity<BatchJobReportDTO> getMaintenanceJobStatus(@PathVariable MaintenanceJob job) {
+        return ResponseEntity.ok(studentService.getMaintenanceJobStatus(job));
     }
 }
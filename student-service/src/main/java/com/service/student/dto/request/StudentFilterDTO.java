@@ -0,0 +1,26 @@
+package com.service.student.dto.request;
+
+import com.service.student.enums.EnrollmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Optional filters of the student listing. Every non-null field narrows the result (AND).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentFilterDTO {
+    private UUID schoolId;
+    private String program;
+    private String major;
+    private EnrollmentStatus status;
+    private String academicLevel;
+    private Boolean international;
+    private Boolean graduated;
+    private UUID communityId;
+    private UUID advisorId;
+}
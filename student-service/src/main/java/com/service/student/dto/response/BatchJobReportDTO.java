@@ -0,0 +1,27 @@
+package com.service.student.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobReportDTO {
+    private String job;
+    private String status;
+    private String parameters;
+
+    // True when this run continued an interrupted one from its checkpoint
+    private boolean resumed;
+
+    private long rowsScanned;
+    private long rowsUpdated;
+    private long chunks;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long durationMs;
+    private double rowsPerSecond;
+}
@@ -0,0 +1,18 @@
+package com.service.student.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentImportErrorDTO {
+    // 1-based data row of the upload (the CSV header is not counted)
+    private long row;
+    private UUID userId;
+    private String studentCode;
+    private String message;
+}
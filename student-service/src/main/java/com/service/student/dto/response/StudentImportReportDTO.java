@@ -0,0 +1,25 @@
+package com.service.student.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentImportReportDTO {
+    private String format;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private long chunks;
+    private long durationMs;
+    private double rowsPerSecond;
+
+    private List<StudentImportErrorDTO> errors;
+
+    // True when more rows were rejected than the report lists
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,20 @@
+package com.service.student.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentPageDTO<T> {
+    // Full StudentResponseDTOs, or maps of the requested properties when fields= is used
+    private List<T> items;
+    private int size;
+    private boolean hasMore;
+
+    // Opaque keyset cursor on (createdAt, id), pass it back to get the next page
+    private String nextCursor;
+}
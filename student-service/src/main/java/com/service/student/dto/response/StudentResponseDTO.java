@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Data
@@ -53,6 +54,10 @@ public class StudentResponseDTO {
     private CommunityMinimalDTO communityInfo;
     private SchoolMinimalDTO schoolInfo;
 
+    // Set when a referenced service could not be resolved (failure, timeout or unknown id)
+    private boolean partial;
+    private List<String> unresolvedReferences;
+
     // Calculated fields
     private Integer age;
     private Integer yearsUntilGraduation;
@@ -0,0 +1,24 @@
+package com.service.student.dto.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Narrow view of a student still waiting for its user and/or advisor sync
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingSyncDTO {
+    private UUID studentId;
+    private UUID userId;
+    private UUID advisorId;
+    private String userSyncStatus;
+    private String advisorSyncStatus;
+    private Integer syncAttempts;
+
+    // Guards the reconciler's write against a concurrent update of the row
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,61 @@
+package com.service.student.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of a chunked maintenance job. Written in the same transaction as each chunk,
+ * so after a crash the next run resumes right after the last committed chunk.
+ */
+@Entity
+@Table(name = "job_checkpoints", schema = "student_schema")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Column(name = "status", length = 20, nullable = false)
+    private String status; // RUNNING, COMPLETED, FAILED
+
+    // Job arguments of the run, a run is only resumed with the same arguments
+    @Column(name = "parameters", length = 200)
+    private String parameters;
+
+    @Column(name = "last_id", columnDefinition = "uuid")
+    private UUID lastId;
+
+    @Column(name = "rows_scanned")
+    private long rowsScanned;
+
+    @Column(name = "rows_updated")
+    private long rowsUpdated;
+
+    @Column(name = "chunks")
+    private long chunks;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
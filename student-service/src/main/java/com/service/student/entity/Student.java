@@ -1,6 +1,8 @@
 package com.service.student.entity;
 
 import com.service.student.enums.EnrollmentStatus;
+import com.service.student.stats.StudentStatsContribution;
+import com.service.student.stats.StudentStatsListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -17,6 +19,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "students", schema = "student_schema")
+@EntityListeners(StudentStatsListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -215,8 +218,24 @@ public class Student {
     @Column(name = "last_sync_attempt")
     private LocalDateTime lastSyncAttempt;
 
+    // Retry bookkeeping of the background sync reconciler (exponential backoff)
+    @Column(name = "sync_attempts")
+    private Integer syncAttempts = 0;
+
+    @Column(name = "next_sync_at")
+    private LocalDateTime nextSyncAt;
+
+    // Stats contribution as last loaded/flushed, used to apply deltas to the stats projection
+    @Transient
+    private transient StudentStatsContribution statsContribution;
+
     @PrePersist
     protected void onCreate() {
+        applyCreationDefaults();
+    }
+
+    // Also used by the bulk import, which inserts through JDBC and skips the JPA callbacks
+    public void applyCreationDefaults() {
         if (createdAt == null) createdAt = LocalDateTime.now();
         if (updatedAt == null) updatedAt = LocalDateTime.now();
         if (enrollmentStatus == null) enrollmentStatus = EnrollmentStatus.ACTIVE;
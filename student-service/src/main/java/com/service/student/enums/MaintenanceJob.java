@@ -0,0 +1,17 @@
+package com.service.student.enums;
+
+public enum MaintenanceJob {
+    UPDATE_ACADEMIC_LEVELS("Update academic levels"),
+    GRADUATE_ELIGIBLE("Graduate eligible students"),
+    DEACTIVATE_INACTIVE("Deactivate inactive students");
+
+    private final String displayName;
+
+    MaintenanceJob(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,28 @@
+package com.service.student.mapper;
+
+import com.service.student.config.StudentMapperConfig;
+import com.service.student.dto.request.AcademicUpdateDTO;
+import com.service.student.dto.request.CreateStudentDTO;
+import com.service.student.dto.response.StudentDTO;
+import com.service.student.dto.response.StudentResponseDTO;
+import com.service.student.entity.Student;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+/**
+ * Compile-time generated student mappings (implementation generated by MapStruct).
+ */
+@Mapper(config = StudentMapperConfig.class)
+public interface StudentMapper {
+
+    StudentDTO toDto(Student student);
+
+    StudentResponseDTO toResponse(Student student);
+
+    // createdBy is a user UUID on the request but a numeric id on the entity, it was never mapped
+    @Mapping(target = "createdBy", ignore = true)
+    Student toEntity(CreateStudentDTO dto);
+
+    void updateAcademicInfo(AcademicUpdateDTO dto, @MappingTarget Student student);
+}
@@ -0,0 +1,27 @@
+package com.service.student.repository;
+
+import com.service.student.entity.Student;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Narrow reads of the students table, used by sparse fieldset requests.
+ */
+public interface StudentProjectionRepository {
+
+    /**
+     * Selects only {@code columns} of the matching students, ordered by (createdAt, id).
+     * <p>
+     * When {@code afterCreatedAt}/{@code afterId} are set, only rows after that keyset position
+     * are returned. The students are detached and only the selected attributes are populated.
+     */
+    List<Student> findColumns(Specification<Student> spec,
+                              Collection<String> columns,
+                              LocalDateTime afterCreatedAt,
+                              UUID afterId,
+                              int limit);
+}
@@ -0,0 +1,73 @@
+package com.service.student.repository;
+
+import com.service.student.entity.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+public class StudentProjectionRepositoryImpl implements StudentProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Student> findColumns(Specification<Student> spec,
+                                     Collection<String> columns,
+                                     LocalDateTime afterCreatedAt,
+                                     UUID afterId,
+                                     int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Student> root = query.from(Student.class);
+
+        List<String> selected = new ArrayList<>(new LinkedHashSet<>(columns));
+        List<Selection<?>> selections = new ArrayList<>(selected.size());
+        for (String column : selected) {
+            selections.add(root.get(column).alias(column));
+        }
+        query.multiselect(selections);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filter = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        if (afterCreatedAt != null && afterId != null) {
+            // Same keyset as the full page, with its createdAt >= :afterCreatedAt range bound
+            predicates.add(StudentSpecifications.after(afterCreatedAt, afterId).toPredicate(root, query, cb));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("id")));
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (limit > 0) {
+            typed.setMaxResults(limit);
+        }
+
+        List<Student> students = new ArrayList<>();
+        for (Tuple tuple : typed.getResultList()) {
+            BeanWrapper student = new BeanWrapperImpl(new Student());
+            for (String column : selected) {
+                student.setPropertyValue(column, tuple.get(column));
+            }
+            students.add((Student) student.getWrappedInstance());
+        }
+        return students;
+    }
+}
@@ -1,24 +1,44 @@
 package com.service.student.repository;
 
+import com.service.student.dto.sync.PendingSyncDTO;
 import com.service.student.entity.Student;
 import com.service.student.enums.EnrollmentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface StudentRepository extends JpaRepository<Student, UUID> {
+public interface StudentRepository extends JpaRepository<Student, UUID>, JpaSpecificationExecutor<Student>,
+        StudentProjectionRepository {
 
     /* =======================
        Basic finders
        ======================= */
 
+    // Bulk import: existing rows that collide with any unique key of a chunk, in one query
+    @Query("SELECT s.userId, s.studentCode, s.idCardNumber, s.passportNumber FROM Student s " +
+            "WHERE s.userId IN :userIds OR s.studentCode IN :studentCodes " +
+            "OR s.idCardNumber IN :idCardNumbers OR s.passportNumber IN :passportNumbers")
+    List<Object[]> findUniqueKeyConflicts(@Param("userIds") Collection<UUID> userIds,
+                                          @Param("studentCodes") Collection<String> studentCodes,
+                                          @Param("idCardNumbers") Collection<String> idCardNumbers,
+                                          @Param("passportNumbers") Collection<String> passportNumbers);
+
     Optional<Student> findByUserId(UUID userId);
 
     Optional<Student> findByStudentCode(String studentCode);
@@ -61,16 +81,20 @@ public interface StudentRepository extends JpaRepository<Student, UUID> {
        Search
        ======================= */
 
-    @Query("""
-        SELECT s FROM Student s
-        WHERE LOWER(s.firstName) LIKE LOWER(CONCAT('%', :keyword, '%'))
-           OR LOWER(s.lastName) LIKE LOWER(CONCAT('%', :keyword, '%'))
-           OR LOWER(s.fullName) LIKE LOWER(CONCAT('%', :keyword, '%'))
-           OR LOWER(s.studentCode) LIKE LOWER(CONCAT('%', :keyword, '%'))
-           OR LOWER(s.program) LIKE LOWER(CONCAT('%', :keyword, '%'))
-           OR LOWER(s.major) LIKE LOWER(CONCAT('%', :keyword, '%'))
-    """)
-    List<Student> searchStudents(@Param("keyword") String keyword);
+    // search_text is a generated, pg_trgm-indexed column (see init-student.sql): substring
+    // matches and typo-tolerant word matches both use the index. Exact student codes rank first.
+    @Query(value = """
+        SELECT s.* FROM student_schema.students s
+        WHERE s.search_text LIKE CONCAT('%', :pattern, '%')
+           OR :keyword <% s.search_text
+        ORDER BY (LOWER(s.student_code) = :keyword) DESC,
+                 word_similarity(:keyword, s.search_text) DESC,
+                 s.full_name, s.id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Student> searchStudents(@Param("keyword") String keyword,
+                                 @Param("pattern") String pattern,
+                                 @Param("limit") int limit);
 
     /* =======================
        Analytics / reporting
@@ -115,6 +139,14 @@ public interface StudentRepository extends JpaRepository<Student, UUID> {
     """)
     Double averageGPA();
 
+    @Query("""
+        SELECT SUM(s.gpa), COUNT(s.gpa)
+        FROM Student s
+        WHERE s.gpa IS NOT NULL
+          AND s.enrollmentStatus = 'ACTIVE'
+    """)
+    List<Object[]> sumAndCountActiveGPA();
+
     @Query("""
         SELECT SUM(s.completedCredits)
         FROM Student s
@@ -141,4 +173,138 @@ public interface StudentRepository extends JpaRepository<Student, UUID> {
           AND s.isActive = true
     """)
     List<Student> findInactiveStudentsSince(@Param("cutoffDate") LocalDate cutoffDate);
+
+    /* =======================
+       Export (forward-only cursor)
+       ======================= */
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT s FROM Student s ORDER BY s.createdAt, s.id")
+    Stream<Student> streamAllForExport();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT s FROM Student s WHERE s.schoolId = :schoolId ORDER BY s.createdAt, s.id")
+    Stream<Student> streamBySchoolIdForExport(@Param("schoolId") UUID schoolId);
+
+    /* =======================
+       Maintenance jobs (keyset chunks + bulk updates)
+       ======================= */
+
+    @Query("SELECT s.id FROM Student s WHERE s.id > :after ORDER BY s.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Query("""
+        SELECT s.id FROM Student s
+        WHERE s.id > :after
+          AND s.enrollmentStatus = 'ACTIVE'
+          AND s.expectedGraduationYear <= YEAR(CURRENT_DATE)
+          AND s.completedCredits >= s.totalCredits
+          AND s.isGraduated = false
+        ORDER BY s.id
+    """)
+    List<UUID> findEligibleForGraduationIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Query("""
+        SELECT s.id FROM Student s
+        WHERE s.id > :after
+          AND s.updatedAt < :cutoff
+          AND s.isActive = true
+        ORDER BY s.id
+    """)
+    List<UUID> findInactiveIdsAfter(@Param("after") UUID after,
+                                    @Param("cutoff") LocalDateTime cutoff,
+                                    Pageable pageable);
+
+    // Same thresholds as Student#getCurrentAcademicLevel; only rows whose level actually changes are written
+    @Modifying
+    @Query("""
+        UPDATE Student s
+        SET s.completedCredits = COALESCE(s.completedCredits, 0),
+            s.totalCredits = COALESCE(s.totalCredits, 0),
+            s.academicLevel = CASE
+                WHEN COALESCE(s.completedCredits, 0) >= 90 THEN 'SENIOR'
+                WHEN COALESCE(s.completedCredits, 0) >= 60 THEN 'JUNIOR'
+                WHEN COALESCE(s.completedCredits, 0) >= 30 THEN 'SOPHOMORE'
+                ELSE 'FRESHMAN' END,
+            s.updatedAt = CURRENT_TIMESTAMP
+        WHERE s.id IN :ids
+          AND (s.isGraduated = false OR s.isGraduated IS NULL)
+          AND (s.completedCredits IS NULL
+               OR s.totalCredits IS NULL
+               OR s.academicLevel IS NULL
+               OR s.academicLevel <> CASE
+                    WHEN s.completedCredits >= 90 THEN 'SENIOR'
+                    WHEN s.completedCredits >= 60 THEN 'JUNIOR'
+                    WHEN s.completedCredits >= 30 THEN 'SOPHOMORE'
+                    ELSE 'FRESHMAN' END)
+    """)
+    int recalculateAcademicLevels(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("""
+        UPDATE Student s
+        SET s.isGraduated = true,
+            s.graduationDate = CURRENT_DATE,
+            s.enrollmentStatus = :graduated,
+            s.isActive = false,
+            s.updatedAt = CURRENT_TIMESTAMP
+        WHERE s.id IN :ids
+          AND s.enrollmentStatus = 'ACTIVE'
+          AND s.expectedGraduationYear <= YEAR(CURRENT_DATE)
+          AND s.completedCredits >= s.totalCredits
+          AND s.isGraduated = false
+    """)
+    int graduate(@Param("ids") Collection<UUID> ids,
+                 @Param("graduated") EnrollmentStatus graduated);
+
+    @Modifying
+    @Query("""
+        UPDATE Student s
+        SET s.enrollmentStatus = :inactive,
+            s.isActive = false,
+            s.updatedAt = CURRENT_TIMESTAMP
+        WHERE s.id IN :ids
+          AND s.updatedAt < :cutoff
+          AND s.isActive = true
+    """)
+    int deactivate(@Param("ids") Collection<UUID> ids,
+                   @Param("cutoff") LocalDateTime cutoff,
+                   @Param("inactive") EnrollmentStatus inactive);
+
+    /* =======================
+       Sync reconciliation
+       ======================= */
+
+    @Query("""
+        SELECT new com.service.student.dto.sync.PendingSyncDTO(
+                   s.id, s.userId, s.advisorId, s.userSyncStatus, s.advisorSyncStatus, s.syncAttempts, s.updatedAt)
+        FROM Student s
+        WHERE s.id > :after
+          AND (s.userSyncStatus <> 'SYNCED' OR s.advisorSyncStatus <> 'SYNCED')
+          AND (s.nextSyncAt IS NULL OR s.nextSyncAt <= :now)
+        ORDER BY s.id
+    """)
+    List<PendingSyncDTO> findDueForSyncAfter(@Param("after") UUID after,
+                                             @Param("now") LocalDateTime now,
+                                             Pageable pageable);
+
+    @Query("SELECT COUNT(s) FROM Student s WHERE s.userSyncStatus <> 'SYNCED'")
+    long countUserSyncBacklog();
+
+    @Query("SELECT COUNT(s) FROM Student s WHERE s.advisorSyncStatus <> 'SYNCED'")
+    long countAdvisorSyncBacklog();
+
+    @Query("""
+        SELECT MIN(s.createdAt) FROM Student s
+        WHERE s.userSyncStatus <> 'SYNCED' OR s.advisorSyncStatus <> 'SYNCED'
+    """)
+    LocalDateTime findOldestUnsyncedCreatedAt();
 }
@@ -0,0 +1,64 @@
+package com.service.student.repository;
+
+import com.service.student.dto.request.StudentFilterDTO;
+import com.service.student.entity.Student;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Dynamic WHERE clauses for {@link StudentRepository}. Only the filters that are set end up
+ * in the SQL, so each combination can use the matching index.
+ */
+public final class StudentSpecifications {
+
+    private StudentSpecifications() {
+    }
+
+    public static Specification<Student> matching(StudentFilterDTO filter) {
+        return (root, query, cb) -> {
+            if (filter == null) {
+                return cb.conjunction();
+            }
+
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getSchoolId() != null) predicates.add(cb.equal(root.get("schoolId"), filter.getSchoolId()));
+            if (filter.getProgram() != null) predicates.add(cb.equal(root.get("program"), filter.getProgram()));
+            if (filter.getMajor() != null) predicates.add(cb.equal(root.get("major"), filter.getMajor()));
+            if (filter.getStatus() != null) predicates.add(cb.equal(root.get("enrollmentStatus"), filter.getStatus()));
+            if (filter.getAcademicLevel() != null) predicates.add(cb.equal(root.get("academicLevel"), filter.getAcademicLevel()));
+            if (filter.getInternational() != null) predicates.add(cb.equal(root.get("isInternational"), filter.getInternational()));
+            if (filter.getGraduated() != null) predicates.add(cb.equal(root.get("isGraduated"), filter.getGraduated()));
+            if (filter.getCommunityId() != null) predicates.add(cb.equal(root.get("communityId"), filter.getCommunityId()));
+            if (filter.getAdvisorId() != null) predicates.add(cb.equal(root.get("advisorId"), filter.getAdvisorId()));
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Keyset cursor: the students after {@code (afterCreatedAt, afterId)} in (createdAt, id) order,
+     * or all of them without a cursor.
+     */
+    public static Specification<Student> after(LocalDateTime afterCreatedAt, UUID afterId) {
+        return (root, query, cb) -> {
+            if (afterCreatedAt == null || afterId == null) {
+                return cb.conjunction();
+            }
+
+            // (createdAt, id) > (:afterCreatedAt, :afterId); the redundant createdAt >= :afterCreatedAt
+            // is what Postgres uses as the start of the index range, the OR alone scans from the start
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            return cb.and(
+                    cb.greaterThanOrEqualTo(createdAt, afterCreatedAt),
+                    cb.or(cb.greaterThan(createdAt, afterCreatedAt),
+                            cb.and(cb.equal(createdAt, afterCreatedAt),
+                                    cb.greaterThan(root.<UUID>get("id"), afterId))));
+        };
+    }
+}
@@ -2,14 +2,19 @@ package com.service.student.service;
 
 import com.service.student.dto.request.AcademicUpdateDTO;
 import com.service.student.dto.request.CreateStudentDTO;
+import com.service.student.dto.request.StudentFilterDTO;
 import com.service.student.dto.request.UpdateStudentDTO;
+import com.service.student.dto.response.BatchJobReportDTO;
 import com.service.student.dto.response.StudentDTO;
+import com.service.student.dto.response.StudentPageDTO;
 import com.service.student.dto.response.StudentResponseDTO;
 import com.service.student.enums.EnrollmentStatus;
+import com.service.student.enums.MaintenanceJob;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface IServiceStudent {
@@ -26,7 +31,7 @@ public interface IServiceStudent {
 
     // ==================== SEARCH & FILTER OPERATIONS ====================
 
-    List<StudentResponseDTO> searchStudents(String keyword);
+    List<StudentResponseDTO> searchStudents(String keyword, Integer limit);
     List<StudentResponseDTO> getStudentsBySchool(UUID schoolId);
     List<StudentResponseDTO> getStudentsByProgram(String program);
     List<StudentResponseDTO> getStudentsByMajor(String major);
@@ -37,6 +42,14 @@ public interface IServiceStudent {
     List<StudentResponseDTO> getInternationalStudents();
     List<StudentResponseDTO> getStudentsByCommunity(UUID communityId);
     List<StudentResponseDTO> getStudentsByAdvisor(UUID advisorId);
+    StudentPageDTO<StudentResponseDTO> getStudents(StudentFilterDTO filter);
+    StudentPageDTO<StudentResponseDTO> getStudentsPage(StudentFilterDTO filter, String cursor, Integer size);
+
+    // ==================== SPARSE FIELDSETS ====================
+
+    Map<String, Object> getStudentFieldsById(UUID id, String fields);
+    StudentPageDTO<Map<String, Object>> getStudentsFields(StudentFilterDTO filter, String fields);
+    StudentPageDTO<Map<String, Object>> getStudentsPageFields(StudentFilterDTO filter, String cursor, Integer size, String fields);
 
     // ==================== STUDENT MANAGEMENT ====================
 
@@ -82,7 +95,8 @@ public interface IServiceStudent {
 
     // ==================== BULK OPERATIONS ====================
 
-    void graduateEligibleStudents();
-    void updateAcademicLevels();
-    void deactivateInactiveStudents(LocalDate cutoffDate);
+    BatchJobReportDTO graduateEligibleStudents();
+    BatchJobReportDTO updateAcademicLevels();
+    BatchJobReportDTO deactivateInactiveStudents(LocalDate cutoffDate);
+    BatchJobReportDTO getMaintenanceJobStatus(MaintenanceJob job);
 }
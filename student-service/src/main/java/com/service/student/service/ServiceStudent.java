@@ -1,26 +1,40 @@
 package com.service.student.service;
 
-import com.service.student.config.CommunityServiceClient;
-import com.service.student.config.SchoolServiceClient;
 import com.service.student.config.UserServiceClient;
 import com.service.student.dto.request.AcademicUpdateDTO;
 import com.service.student.dto.request.CreateStudentDTO;
+import com.service.student.dto.request.StudentFilterDTO;
 import com.service.student.dto.request.UpdateStudentDTO;
+import com.service.student.dto.response.BatchJobReportDTO;
 import com.service.student.dto.response.StudentDTO;
+import com.service.student.dto.response.StudentPageDTO;
 import com.service.student.dto.response.StudentResponseDTO;
 import com.service.student.entity.Student;
 import com.service.student.enums.EnrollmentStatus;
+import com.service.student.enums.MaintenanceJob;
+import com.service.student.mapper.StudentMapper;
 import com.service.student.repository.StudentRepository;
+import com.service.student.repository.StudentSpecifications;
+import com.service.student.stats.StudentStatsProjection;
 import com.service.user.dto.user.UserMinimalDTO;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -30,11 +44,16 @@ import java.util.stream.Collectors;
 @Transactional
 public class ServiceStudent implements IServiceStudent {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Sort KEYSET_SORT = Sort.by("createdAt", "id");
+
     private final StudentRepository studentRepository;
-    private final ModelMapper modelMapper;
+    private final StudentMapper studentMapper;
     private final UserServiceClient userServiceClient;
-    private final CommunityServiceClient communityServiceClient;
-    private final SchoolServiceClient schoolServiceClient;
+    private final StudentEnrichmentService studentEnrichmentService;
+    private final StudentMaintenanceJobService studentMaintenanceJobService;
+    private final StudentStatsProjection studentStatsProjection;
 
     /* =======================
        CREATE & READ
@@ -51,19 +70,18 @@ public class ServiceStudent implements IServiceStudent {
             throw new RuntimeException("Student code already exists");
         }
 
-        Student student = modelMapper.map(studentDTO, Student.class);
+        Student student = studentMapper.toEntity(studentDTO);
         student.setUserSyncStatus("PENDING");
         student.setAdvisorSyncStatus("PENDING");
 
-        return modelMapper.map(studentRepository.save(student), StudentDTO.class);
+        return studentMapper.toDto(studentRepository.save(student));
     }
 
     @Override
     public StudentDTO getStudentById(UUID id) {
-        return modelMapper.map(
+        return studentMapper.toDto(
                 studentRepository.findById(id)
-                        .orElseThrow(() -> new RuntimeException("Student not found: " + id)),
-                StudentDTO.class
+                        .orElseThrow(() -> new RuntimeException("Student not found: " + id))
         );
     }
 
@@ -77,101 +95,153 @@ public class ServiceStudent implements IServiceStudent {
 
     @Override
     public StudentDTO getStudentByUserId(UUID userId) {
-        return modelMapper.map(
+        return studentMapper.toDto(
                 studentRepository.findByUserId(userId)
-                        .orElseThrow(() -> new RuntimeException("Student not found for user: " + userId)),
-                StudentDTO.class
+                        .orElseThrow(() -> new RuntimeException("Student not found for user: " + userId))
         );
     }
 
     @Override
     public List<StudentResponseDTO> getAllStudents() {
-        return studentRepository.findAll().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(studentRepository.findAll());
     }
     @Override
-    public List<StudentResponseDTO> searchStudents(String keyword) {
-        return studentRepository.searchStudents(keyword).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    public List<StudentResponseDTO> searchStudents(String keyword, Integer limit) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        String pattern = normalized.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return toResponses(studentRepository.searchStudents(normalized, pattern, pageSize(limit)));
     }
 
     @Override
     public List<StudentResponseDTO> getStudentsBySchool(UUID schoolId) {
-        return studentRepository.findBySchoolId(schoolId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(studentRepository.findBySchoolId(schoolId));
     }
 
     @Override
     public List<StudentResponseDTO> getStudentsByProgram(String program) {
-        return studentRepository.findByProgram(program).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(studentRepository.findByProgram(program));
     }
 
     @Override
     public List<StudentResponseDTO> getStudentsByMajor(String major) {
-        return studentRepository.findByMajor(major).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(studentRepository.findByMajor(major));
     }
 
     @Override
     public List<StudentResponseDTO> getStudentsByEnrollmentStatus(EnrollmentStatus status) {
-        return studentRepository.findByEnrollmentStatus(status).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(studentRepository.findByEnrollmentStatus(status));
     }
 
     @Override
     public List<StudentResponseDTO> getStudentsByAcademicLevel(String academicLevel) {
-        return studentRepository.findByAcademicLevel(academicLevel).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(studentRepository.findByAcademicLevel(academicLevel));
     }
 
     @Override
     public List<StudentResponseDTO> getActiveStudents() {
-        return studentRepository.findByIsActiveTrue().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(studentRepository.findByIsActiveTrue());
     }
 
     @Override
     public List<StudentResponseDTO> getGraduatedStudents() {
-        return studentRepository.findByIsGraduatedTrue().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(studentRepository.findByIsGraduatedTrue());
     }
 
     @Override
     public List<StudentResponseDTO> getInternationalStudents() {
-        return studentRepository.findByIsInternationalTrue().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(studentRepository.findByIsInternationalTrue());
     }
 
     @Override
     public List<StudentResponseDTO> getStudentsByCommunity(UUID communityId) {
-        return studentRepository.findByCommunityId(communityId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(studentRepository.findByCommunityId(communityId));
     }
 
     @Override
     public List<StudentResponseDTO> getStudentsByAdvisor(UUID advisorId) {
-        return studentRepository.findByAdvisorId(advisorId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(studentRepository.findByAdvisorId(advisorId));
+    }
+    @Override
+    public StudentPageDTO<StudentResponseDTO> getStudents(StudentFilterDTO filter) {
+        return getStudentsPage(filter, null, MAX_PAGE_SIZE);
     }
+
+    @Override
+    public StudentPageDTO<StudentResponseDTO> getStudentsPage(StudentFilterDTO filter, String cursor, Integer size) {
+        int pageSize = pageSize(size);
+        Map<String, Object> after = decodeCursor(cursor);
+
+        // One extra row tells whether there is a next page
+        Specification<Student> spec = StudentSpecifications.matching(filter)
+                .and(StudentSpecifications.after((LocalDateTime) after.get("createdAt"), (UUID) after.get("id")));
+        List<Student> students = studentRepository.findBy(spec,
+                query -> query.sortBy(KEYSET_SORT).limit(pageSize + 1).all());
+        boolean hasMore = students.size() > pageSize;
+        if (hasMore) {
+            students = students.subList(0, pageSize);
+        }
+
+        String nextCursor = hasMore ? encodeCursor(students.get(students.size() - 1)) : null;
+        return new StudentPageDTO<>(toResponses(students), students.size(), hasMore, nextCursor);
+    }
+
+    /* =======================
+       SPARSE FIELDSETS
+       ======================= */
+
+    // Only the columns behind the requested fields are selected, and only the requested references resolved
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStudentFieldsById(UUID id, String fields) {
+        StudentFieldSelection selection = StudentFieldSelection.parse(fields);
+        Specification<Student> byId = (root, query, cb) -> cb.equal(root.get("id"), id);
+
+        List<Student> students = studentRepository.findColumns(byId, selection.entityColumns(), null, null, 1);
+        if (students.isEmpty()) {
+            throw new RuntimeException("Student not found: " + id);
+        }
+
+        Student student = students.get(0);
+        StudentResponseDTO response = studentMapper.toResponse(student);
+        calculateDerivedFields(student, response, selection);
+        studentEnrichmentService.enrich(student, response, selection.references());
+        return selection.project(response);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentPageDTO<Map<String, Object>> getStudentsFields(StudentFilterDTO filter, String fields) {
+        return getStudentsPageFields(filter, null, MAX_PAGE_SIZE, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StudentPageDTO<Map<String, Object>> getStudentsPageFields(StudentFilterDTO filter, String cursor,
+                                                                      Integer size, String fields) {
+        StudentFieldSelection selection = StudentFieldSelection.parse(fields);
+        int pageSize = pageSize(size);
+        Map<String, Object> after = decodeCursor(cursor);
+
+        // One extra row tells whether there is a next page
+        List<Student> students = studentRepository.findColumns(StudentSpecifications.matching(filter),
+                selection.entityColumns(), (LocalDateTime) after.get("createdAt"), (UUID) after.get("id"),
+                pageSize + 1);
+        boolean hasMore = students.size() > pageSize;
+        if (hasMore) {
+            students = students.subList(0, pageSize);
+        }
+
+        String nextCursor = hasMore ? encodeCursor(students.get(students.size() - 1)) : null;
+        return new StudentPageDTO<>(toSparseResponses(students, selection), students.size(), hasMore, nextCursor);
+    }
+
     @Override
     public StudentResponseDTO getStudentWithUserInfo(UUID studentId) {
-        Student student = getEntity(studentId);
-        StudentResponseDTO response = toResponse(student);
-        enrichWithUser(student, response);
-        return response;
+        return toResponse(getEntity(studentId));
     }
 
 
@@ -240,7 +310,7 @@ public class ServiceStudent implements IServiceStudent {
             student.setFullName(firstName + " " + lastName);
         }
 
-        return modelMapper.map(studentRepository.save(student), StudentDTO.class);
+        return studentMapper.toDto(studentRepository.save(student));
     }
 
     @Override
@@ -265,28 +335,28 @@ public class ServiceStudent implements IServiceStudent {
         student.setEnrollmentStatus(status);
         student.setIsActive(status == EnrollmentStatus.ACTIVE);
 
-        return modelMapper.map(studentRepository.save(student), StudentDTO.class);
+        return studentMapper.toDto(studentRepository.save(student));
     }
 
     @Override
     public StudentDTO activateStudent(UUID studentId) {
         Student student = getEntity(studentId);
         student.activate();
-        return modelMapper.map(studentRepository.save(student), StudentDTO.class);
+        return studentMapper.toDto(studentRepository.save(student));
     }
 
     @Override
     public StudentDTO deactivateStudent(UUID studentId) {
         Student student = getEntity(studentId);
         student.deactivate();
-        return modelMapper.map(studentRepository.save(student), StudentDTO.class);
+        return studentMapper.toDto(studentRepository.save(student));
     }
 
     @Override
     public StudentDTO suspendStudent(UUID studentId) {
         Student student = getEntity(studentId);
         student.suspend();
-        return modelMapper.map(studentRepository.save(student), StudentDTO.class);
+        return studentMapper.toDto(studentRepository.save(student));
     }
 
     @Override
@@ -298,28 +368,28 @@ public class ServiceStudent implements IServiceStudent {
         }
 
         student.graduate();
-        return modelMapper.map(studentRepository.save(student), StudentDTO.class);
+        return studentMapper.toDto(studentRepository.save(student));
     }
 
     @Override
     public StudentDTO updateAcademicInfo(UUID studentId, AcademicUpdateDTO dto) {
         Student student = getEntity(studentId);
-        modelMapper.map(dto, student);
-        return modelMapper.map(studentRepository.save(student), StudentDTO.class);
+        studentMapper.updateAcademicInfo(dto, student);
+        return studentMapper.toDto(studentRepository.save(student));
     }
 
     @Override
     public StudentDTO addCredits(UUID studentId, Integer credits) {
         Student student = getEntity(studentId);
         student.addCredits(credits);
-        return modelMapper.map(studentRepository.save(student), StudentDTO.class);
+        return studentMapper.toDto(studentRepository.save(student));
     }
 
     @Override
     public StudentDTO updateGPA(UUID studentId, BigDecimal gpa) {
         Student student = getEntity(studentId);
         student.setGpa(gpa);
-        return modelMapper.map(studentRepository.save(student), StudentDTO.class);
+        return studentMapper.toDto(studentRepository.save(student));
     }
 
     @Override
@@ -327,7 +397,7 @@ public class ServiceStudent implements IServiceStudent {
         Student student = getEntity(studentId);
         if (program != null) student.setProgram(program);
         if (major != null) student.setMajor(major);
-        return modelMapper.map(studentRepository.save(student), StudentDTO.class);
+        return studentMapper.toDto(studentRepository.save(student));
     }
 
     /* =======================
@@ -348,7 +418,7 @@ public class ServiceStudent implements IServiceStudent {
             student.markUserSyncFailed();
         }
 
-        return modelMapper.map(studentRepository.save(student), StudentDTO.class);
+        return studentMapper.toDto(studentRepository.save(student));
     }
 
     @Override
@@ -361,7 +431,7 @@ public class ServiceStudent implements IServiceStudent {
             student.markAdvisorSyncFailed();
         }
 
-        return modelMapper.map(studentRepository.save(student), StudentDTO.class);
+        return studentMapper.toDto(studentRepository.save(student));
     }
 
     /* =======================
@@ -389,10 +459,11 @@ public class ServiceStudent implements IServiceStudent {
         return s.getIsActive() && s.getEnrollmentStatus() == EnrollmentStatus.ACTIVE;
     }
 
-    @Override public long getTotalStudentsCount() { return studentRepository.count(); }
-    @Override public long getActiveStudentsCount() { return studentRepository.countByEnrollmentStatus(EnrollmentStatus.ACTIVE); }
-    @Override public long getGraduatedStudentsCount() { return studentRepository.countByEnrollmentStatus(EnrollmentStatus.GRADUATED); }
-    @Override public long getInternationalStudentsCount() { return studentRepository.countByIsInternationalTrue(); }
+    // Counters and groupings below are served by the in-memory stats projection
+    @Override public long getTotalStudentsCount() { return studentStatsProjection.getTotal(); }
+    @Override public long getActiveStudentsCount() { return studentStatsProjection.getByStatus(EnrollmentStatus.ACTIVE); }
+    @Override public long getGraduatedStudentsCount() { return studentStatsProjection.getByStatus(EnrollmentStatus.GRADUATED); }
+    @Override public long getInternationalStudentsCount() { return studentStatsProjection.getInternational(); }
 
     /* =======================
        INTERNAL HELPERS
@@ -403,49 +474,63 @@ public class ServiceStudent implements IServiceStudent {
                 .orElseThrow(() -> new RuntimeException("Student not found"));
     }
 
-    private void enrichWithUser(Student student, StudentResponseDTO response) {
-        if (student.getUserId() == null) {
-            log.warn("Student {} has no userId, skipping user enrichment", student.getId());
-            return;
+    private int pageSize(Integer size) {
+        return size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private String encodeCursor(Student last) {
+        String raw = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Map<String, Object> decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Map.of();
         }
-        
+
         try {
-            log.debug("Fetching user info for userId: {}", student.getUserId());
-            UserMinimalDTO userInfo = userServiceClient.getUserMinimalById(student.getUserId());
-            if (userInfo != null) {
-                response.setUserInfo(userInfo);
-                log.debug("Successfully enriched student {} with user info", student.getId());
-            } else {
-                log.warn("User service returned null for userId: {}", student.getUserId());
-            }
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("createdAt", LocalDateTime.parse(parts[0]));
+            keys.put("id", UUID.fromString(parts[1]));
+            return keys;
         } catch (Exception e) {
-            log.error("Failed to fetch user info for student {} with userId {}: {}", 
-                    student.getId(), student.getUserId(), e.getMessage(), e);
-            // Continue without user info - student data is still valid
+            throw new RuntimeException("Invalid cursor: " + cursor);
         }
     }
 
     private void calculateDerivedFields(Student student, StudentResponseDTO response) {
-        if (student.getDateOfBirth() != null) {
+        calculateDerivedFields(student, response, StudentFieldSelection.ALL);
+    }
+
+    // A sparse student only has the columns its selection needs, so only those fields are derived
+    private void calculateDerivedFields(Student student, StudentResponseDTO response, StudentFieldSelection selection) {
+        if (selection.includes("age") && student.getDateOfBirth() != null) {
             response.setAge(LocalDate.now().getYear() - student.getDateOfBirth().getYear());
         }
 
-        if (student.getExpectedGraduationYear() != null) {
+        if (selection.includes("yearsUntilGraduation") && student.getExpectedGraduationYear() != null) {
             response.setYearsUntilGraduation(
                     Math.max(0, student.getExpectedGraduationYear() - LocalDate.now().getYear())
             );
         }
 
-        if (student.getTotalCredits() != null && student.getTotalCredits() > 0) {
+        if (selection.includes("creditsPercentage") && student.getTotalCredits() != null && student.getTotalCredits() > 0) {
             response.setCreditsPercentage(
                     Math.min(100.0,
                             (student.getCompletedCredits() * 100.0) / student.getTotalCredits())
             );
         }
 
-        response.setEligibleForGraduation(student.isEligibleForGraduation());
-        response.setUserReferenceValid(student.isUserReferenceValid());
-        response.setAdvisorReferenceValid(student.isAdvisorReferenceValid());
+        if (selection.includes("eligibleForGraduation")) {
+            response.setEligibleForGraduation(student.isEligibleForGraduation());
+        }
+        if (selection.includes("userReferenceValid")) {
+            response.setUserReferenceValid(student.isUserReferenceValid());
+        }
+        if (selection.includes("advisorReferenceValid")) {
+            response.setAdvisorReferenceValid(student.isAdvisorReferenceValid());
+        }
     }
     @Override
     public boolean studentCodeExists(String studentCode) {
@@ -453,95 +538,85 @@ public class ServiceStudent implements IServiceStudent {
     }
     @Override
     public List<Object[]> getStudentsCountBySchool() {
-        return studentRepository.countStudentsBySchool();
+        return studentStatsProjection.getActiveCountBySchool();
     }
 
     @Override
     public List<Object[]> getStudentsCountByProgram() {
-        return studentRepository.countStudentsByProgram();
+        return studentStatsProjection.getActiveCountByProgram();
     }
 
     @Override
     public List<Object[]> getStudentsCountByEnrollmentStatus() {
-        return studentRepository.countStudentsByEnrollmentStatus();
+        return studentStatsProjection.getCountByStatus();
     }
 
     @Override
     public List<Object[]> getStudentsCountByAcademicLevel() {
-        return studentRepository.countStudentsByAcademicLevel();
+        return studentStatsProjection.getActiveCountByLevel();
     }
 
     @Override
     public BigDecimal getAverageGPA() {
-        Double avg = studentRepository.averageGPA();
-        return avg == null ? BigDecimal.ZERO : BigDecimal.valueOf(avg);
+        return studentStatsProjection.getActiveAverageGpa();
     }
 
     @Override
     public Integer getTotalCreditsAcrossStudents() {
-        return studentRepository.sumCompletedCredits();
+        return Math.toIntExact(studentStatsProjection.getActiveCompletedCredits());
+    }
+    // Bulk jobs commit chunk by chunk, they must not run inside one surrounding transaction
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchJobReportDTO graduateEligibleStudents() {
+        return studentMaintenanceJobService.graduateEligibleStudents();
     }
+
     @Override
-    public void graduateEligibleStudents() {
-        List<Student> eligible = studentRepository.findEligibleForGraduation();
-        eligible.forEach(Student::graduate);
-        studentRepository.saveAll(eligible);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchJobReportDTO updateAcademicLevels() {
+        return studentMaintenanceJobService.updateAcademicLevels();
     }
 
     @Override
-    public void updateAcademicLevels() {
-        List<Student> students = studentRepository.findAll();
-        students.forEach(Student::recalculateAcademicLevel);
-        studentRepository.saveAll(students);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchJobReportDTO deactivateInactiveStudents(LocalDate cutoffDate) {
+        return studentMaintenanceJobService.deactivateInactiveStudents(cutoffDate);
     }
 
     @Override
-    public void deactivateInactiveStudents(LocalDate cutoffDate) {
-        List<Student> inactive = studentRepository.findInactiveStudentsSince(cutoffDate);
-        inactive.forEach(Student::deactivate);
-        studentRepository.saveAll(inactive);
+    @Transactional(readOnly = true)
+    public BatchJobReportDTO getMaintenanceJobStatus(MaintenanceJob job) {
+        return studentMaintenanceJobService.getJobStatus(job);
     }
     private StudentResponseDTO toResponse(Student student) {
-        StudentResponseDTO response = modelMapper.map(student, StudentResponseDTO.class);
-        enrichWithUser(student, response);
-        enrichWithCommunity(student, response);
-        enrichWithSchool(student, response);
+        StudentResponseDTO response = studentMapper.toResponse(student);
+        studentEnrichmentService.enrich(student, response);
         calculateDerivedFields(student, response);
         return response;
     }
 
-    private void enrichWithCommunity(Student student, StudentResponseDTO response) {
-        if (student.getCommunityId() == null) {
-            log.debug("Student {} has no communityId, skipping community enrichment", student.getId());
-            return;
-        }
-        
-        try {
-            log.debug("Fetching community info for communityId: {}", student.getCommunityId());
-            response.setCommunityInfo(communityServiceClient.getCommunityMinimalById(student.getCommunityId()));
-            log.debug("Successfully enriched student {} with community info", student.getId());
-        } catch (Exception e) {
-            log.error("Failed to fetch community info for student {} with communityId {}: {}", 
-                    student.getId(), student.getCommunityId(), e.getMessage(), e);
-            // Continue without community info - student data is still valid
-        }
+    private List<StudentResponseDTO> toResponses(List<Student> students) {
+        List<StudentResponseDTO> responses = students.stream()
+                .map(student -> {
+                    StudentResponseDTO response = studentMapper.toResponse(student);
+                    calculateDerivedFields(student, response);
+                    return response;
+                })
+                .collect(Collectors.toList());
+        studentEnrichmentService.enrichAll(students, responses);
+        return responses;
     }
 
-    private void enrichWithSchool(Student student, StudentResponseDTO response) {
-        if (student.getSchoolId() == null) {
-            log.debug("Student {} has no schoolId, skipping school enrichment", student.getId());
-            return;
-        }
-        
-        try {
-            log.debug("Fetching school info for schoolId: {}", student.getSchoolId());
-            response.setSchoolInfo(schoolServiceClient.getSchoolMinimalById(student.getSchoolId()));
-            log.debug("Successfully enriched student {} with school info", student.getId());
-        } catch (Exception e) {
-            log.error("Failed to fetch school info for student {} with schoolId {}: {}", 
-                    student.getId(), student.getSchoolId(), e.getMessage(), e);
-            // Continue without school info - student data is still valid
+    private List<Map<String, Object>> toSparseResponses(List<Student> students, StudentFieldSelection selection) {
+        List<StudentResponseDTO> responses = new ArrayList<>(students.size());
+        for (Student student : students) {
+            StudentResponseDTO response = studentMapper.toResponse(student);
+            calculateDerivedFields(student, response, selection);
+            responses.add(response);
         }
+        studentEnrichmentService.enrichAll(students, responses, selection.references());
+        return responses.stream().map(selection::project).collect(Collectors.toList());
     }
 
 }
@@ -0,0 +1,310 @@
+package com.service.student.service;
+
+import com.service.community.dto.CommunityMinimalDTO;
+import com.service.school.dto.SchoolMinimalDTO;
+import com.service.student.cache.ReferenceCache;
+import com.service.student.cache.StudentReferenceCaches;
+import com.service.student.config.CommunityServiceClient;
+import com.service.student.config.SchoolServiceClient;
+import com.service.student.config.UserServiceClient;
+import com.service.student.dto.response.StudentResponseDTO;
+import com.service.student.entity.Student;
+import com.service.user.dto.user.UserMinimalDTO;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Fills the user, school and community parts of {@link StudentResponseDTO}.
+ * <p>
+ * A single student is enriched by calling the three services concurrently on the
+ * enrichment executor; the response waits for them up to one deadline, and each call is
+ * bounded by the timeouts of its Feign client. A lookup the saturated executor rejects is
+ * skipped rather than run on the request thread. Lists are enriched in one pass:
+ * the distinct ids of the page are collected and each target service is called once
+ * through its bulk "minimal" endpoint, then the results are joined in memory.
+ * <p>
+ * Every lookup goes through {@link StudentReferenceCaches} first; only misses reach
+ * the remote services, and ids they do not know are cached as negative entries.
+ * Whatever cannot be resolved is left empty and the response is flagged as partial.
+ */
+@Slf4j
+@Service
+public class StudentEnrichmentService {
+
+    public static final String USER = "user";
+    public static final String COMMUNITY = "community";
+    public static final String SCHOOL = "school";
+
+    public static final Set<String> ALL_REFERENCES = Set.of(USER, COMMUNITY, SCHOOL);
+
+    // Upper bound of ids sent in one bulk call, keeps request bodies and IN lists reasonable
+    private static final int MAX_IDS_PER_CALL = 500;
+
+    private final UserServiceClient userServiceClient;
+    private final CommunityServiceClient communityServiceClient;
+    private final SchoolServiceClient schoolServiceClient;
+    private final StudentReferenceCaches referenceCaches;
+    private final Executor enrichmentExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Duration deadline;
+
+    public StudentEnrichmentService(UserServiceClient userServiceClient,
+                                    CommunityServiceClient communityServiceClient,
+                                    SchoolServiceClient schoolServiceClient,
+                                    StudentReferenceCaches referenceCaches,
+                                    @Qualifier("enrichmentExecutor") Executor enrichmentExecutor,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${student.enrichment.deadline:2s}") Duration deadline) {
+        this.userServiceClient = userServiceClient;
+        this.communityServiceClient = communityServiceClient;
+        this.schoolServiceClient = schoolServiceClient;
+        this.referenceCaches = referenceCaches;
+        this.enrichmentExecutor = enrichmentExecutor;
+        this.meterRegistry = meterRegistry;
+        this.deadline = deadline;
+    }
+
+    /* =======================
+       SINGLE STUDENT
+       ======================= */
+
+    public void enrich(Student student, StudentResponseDTO response) {
+        enrich(student, response, ALL_REFERENCES);
+    }
+
+    /**
+     * Resolves only the given references, the others are neither fetched nor reported as unresolved.
+     */
+    public void enrich(Student student, StudentResponseDTO response, Set<String> references) {
+        if (references.isEmpty()) {
+            return;
+        }
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+
+        CompletableFuture<UserMinimalDTO> user = lookupAsync(USER, idIf(references, USER, student.getUserId()),
+                referenceCaches.users(), userServiceClient::getUserMinimalById);
+        CompletableFuture<CommunityMinimalDTO> community = lookupAsync(COMMUNITY,
+                idIf(references, COMMUNITY, student.getCommunityId()),
+                referenceCaches.communities(), communityServiceClient::getCommunityMinimalById);
+        CompletableFuture<SchoolMinimalDTO> school = lookupAsync(SCHOOL, idIf(references, SCHOOL, student.getSchoolId()),
+                referenceCaches.schools(), schoolServiceClient::getSchoolMinimalById);
+
+        response.setUserInfo(await(USER, student, user, deadlineNanos));
+        response.setCommunityInfo(await(COMMUNITY, student, community, deadlineNanos));
+        response.setSchoolInfo(await(SCHOOL, student, school, deadlineNanos));
+
+        markUnresolved(student, response, references);
+    }
+
+    /* =======================
+       BATCH
+       ======================= */
+
+    public void enrichAll(List<Student> students, List<StudentResponseDTO> responses) {
+        enrichAll(students, responses, ALL_REFERENCES);
+    }
+
+    public void enrichAll(List<Student> students, List<StudentResponseDTO> responses, Set<String> references) {
+        if (students.isEmpty() || references.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, UserMinimalDTO> users = references.contains(USER)
+                ? fetchAll(referenceCaches.users(), USER, distinctIds(students, Student::getUserId),
+                        userServiceClient::getUsersMinimalByIds, UserMinimalDTO::getId)
+                : Map.of();
+        Map<UUID, CommunityMinimalDTO> communities = references.contains(COMMUNITY)
+                ? fetchAll(referenceCaches.communities(), COMMUNITY, distinctIds(students, Student::getCommunityId),
+                        communityServiceClient::getCommunitiesMinimalByIds, CommunityMinimalDTO::getId)
+                : Map.of();
+        Map<UUID, SchoolMinimalDTO> schools = references.contains(SCHOOL)
+                ? fetchAll(referenceCaches.schools(), SCHOOL, distinctIds(students, Student::getSchoolId),
+                        schoolServiceClient::getSchoolsMinimalByIds, SchoolMinimalDTO::getId)
+                : Map.of();
+
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            StudentResponseDTO response = responses.get(i);
+
+            if (student.getUserId() != null) response.setUserInfo(users.get(student.getUserId()));
+            if (student.getCommunityId() != null) response.setCommunityInfo(communities.get(student.getCommunityId()));
+            if (student.getSchoolId() != null) response.setSchoolInfo(schools.get(student.getSchoolId()));
+
+            markUnresolved(student, response, references);
+        }
+    }
+
+    /* =======================
+       INTERNAL HELPERS
+       ======================= */
+
+    private <T> CompletableFuture<T> lookupAsync(String dependency,
+                                                 UUID id,
+                                                 ReferenceCache<T> cache,
+                                                 Function<UUID, T> remote) {
+        if (id == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Optional<T> cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.orElse(null));
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                T value = timed(dependency, "single", () -> nullIfNotFound(() -> remote.apply(id)));
+                cache.put(id, value);
+                return value;
+            }, enrichmentExecutor);
+        } catch (RejectedExecutionException e) {
+            // Pool saturated: the part is left empty and the response flagged as partial
+            meterRegistry.counter("student.enrichment.rejections", "dependency", dependency).increment();
+            log.warn("Enrichment pool saturated, skipping {} info for id {}", dependency, id);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private <T> T await(String dependency, Student student, CompletableFuture<T> future, long deadlineNanos) {
+        try {
+            long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // The lookup itself keeps running until the Feign read timeout of its client
+            meterRegistry.counter("student.enrichment.timeouts", "dependency", dependency).increment();
+            log.warn("Timed out after {} fetching {} info for student {}", deadline, dependency, student.getId());
+        } catch (ExecutionException e) {
+            log.error("Failed to fetch {} info for student {}: {}",
+                    dependency, student.getId(), e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while fetching {} info for student {}", dependency, student.getId());
+        }
+        // Continue without this part - student data is still valid
+        return null;
+    }
+
+    private static UUID idIf(Set<String> references, String dependency, UUID id) {
+        return references.contains(dependency) ? id : null;
+    }
+
+    private void markUnresolved(Student student, StudentResponseDTO response, Set<String> references) {
+        List<String> unresolved = new ArrayList<>();
+        if (references.contains(USER) && student.getUserId() != null && response.getUserInfo() == null) {
+            unresolved.add(USER);
+        }
+        if (references.contains(COMMUNITY) && student.getCommunityId() != null && response.getCommunityInfo() == null) {
+            unresolved.add(COMMUNITY);
+        }
+        if (references.contains(SCHOOL) && student.getSchoolId() != null && response.getSchoolInfo() == null) {
+            unresolved.add(SCHOOL);
+        }
+
+        if (!unresolved.isEmpty()) {
+            response.setPartial(true);
+            response.setUnresolvedReferences(unresolved);
+        }
+    }
+
+    private Set<UUID> distinctIds(List<Student> students, Function<Student, UUID> idExtractor) {
+        Set<UUID> ids = new LinkedHashSet<>();
+        for (Student student : students) {
+            UUID id = idExtractor.apply(student);
+            if (id != null) ids.add(id);
+        }
+        return ids;
+    }
+
+    private <T> Map<UUID, T> fetchAll(ReferenceCache<T> cache,
+                                      String dependency,
+                                      Set<UUID> ids,
+                                      Function<Collection<UUID>, List<T>> loader,
+                                      Function<T, UUID> idOf) {
+        Map<UUID, T> result = new HashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        Map<UUID, Optional<T>> cached = cache.getAllPresent(ids);
+        cached.forEach((id, value) -> value.ifPresent(found -> result.put(id, found)));
+
+        List<UUID> pending = new ArrayList<>();
+        for (UUID id : ids) {
+            if (!cached.containsKey(id)) pending.add(id);
+        }
+
+        for (int from = 0; from < pending.size(); from += MAX_IDS_PER_CALL) {
+            List<UUID> chunk = pending.subList(from, Math.min(from + MAX_IDS_PER_CALL, pending.size()));
+            try {
+                log.debug("Fetching {} {} records in bulk", chunk.size(), dependency);
+                List<T> found = timed(dependency, "batch", () -> loader.apply(chunk));
+                if (found != null) {
+                    found.stream()
+                            .filter(Objects::nonNull)
+                            .forEach(item -> result.put(idOf.apply(item), item));
+                }
+                // Ids the owning service did not return are unknown there: cache them as negative
+                chunk.forEach(id -> cache.put(id, result.get(id)));
+            } catch (Exception e) {
+                log.error("Failed to fetch {} {} records in bulk: {}", chunk.size(), dependency, e.getMessage(), e);
+                // Continue without this part - student data is still valid
+            }
+        }
+
+        if (result.size() < ids.size()) {
+            log.warn("{} service resolved {} of {} requested ids", dependency, result.size(), ids.size());
+        }
+        return result;
+    }
+
+    private <T> T timed(String dependency, String mode, Supplier<T> call) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            Timer.builder("student.enrichment.latency")
+                    .tag("dependency", dependency)
+                    .tag("mode", mode)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static <T> T nullIfNotFound(Supplier<T> call) {
+        try {
+            return call.get();
+        } catch (FeignException.NotFound e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.service.student.service;
+
+import com.service.student.entity.Student;
+import com.service.student.enums.ExportFormat;
+import com.service.student.repository.StudentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streams students straight from a forward-only database cursor to the response body,
+ * one row at a time, so memory stays flat whatever the size of the table.
+ */
+@Slf4j
+@Service
+public class StudentExportService {
+
+    private static final int FLUSH_EVERY = 500;
+    private static final int PROGRESS_LOG_EVERY = 10_000;
+
+    // Exported columns, in order. Sensitive profile fields (medical, identity documents) are left out.
+    private static final List<Column> COLUMNS = List.of(
+            new Column("id", Student::getId),
+            new Column("userId", Student::getUserId),
+            new Column("studentCode", Student::getStudentCode),
+            new Column("firstName", Student::getFirstName),
+            new Column("lastName", Student::getLastName),
+            new Column("fullName", Student::getFullName),
+            new Column("dateOfBirth", Student::getDateOfBirth),
+            new Column("gender", Student::getGender),
+            new Column("nationality", Student::getNationality),
+            new Column("city", Student::getCity),
+            new Column("country", Student::getCountry),
+            new Column("personalEmail", Student::getPersonalEmail),
+            new Column("phoneNumber", Student::getPhoneNumber),
+            new Column("schoolId", Student::getSchoolId),
+            new Column("program", Student::getProgram),
+            new Column("major", Student::getMajor),
+            new Column("minor", Student::getMinor),
+            new Column("enrollmentYear", Student::getEnrollmentYear),
+            new Column("expectedGraduationYear", Student::getExpectedGraduationYear),
+            new Column("enrollmentStatus", Student::getEnrollmentStatus),
+            new Column("academicLevel", Student::getAcademicLevel),
+            new Column("gpa", Student::getGpa),
+            new Column("totalCredits", Student::getTotalCredits),
+            new Column("completedCredits", Student::getCompletedCredits),
+            new Column("communityId", Student::getCommunityId),
+            new Column("advisorId", Student::getAdvisorId),
+            new Column("isInternational", Student::getIsInternational),
+            new Column("isActive", Student::getIsActive),
+            new Column("isGraduated", Student::getIsGraduated),
+            new Column("graduationDate", Student::getGraduationDate),
+            new Column("createdAt", Student::getCreatedAt),
+            new Column("updatedAt", Student::getUpdatedAt)
+    );
+
+    private final StudentRepository studentRepository;
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger activeExports = new AtomicInteger();
+
+    public StudentExportService(StudentRepository studentRepository,
+                                EntityManager entityManager,
+                                JsonMapper jsonMapper,
+                                MeterRegistry meterRegistry) {
+        this.studentRepository = studentRepository;
+        this.entityManager = entityManager;
+        this.jsonMapper = jsonMapper;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("student.export.active", activeExports, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Writes every student (or the students of one school) to {@code out} and returns the
+     * number of rows written. The caller owns the stream.
+     */
+    @Transactional(readOnly = true)
+    public long exportStudents(ExportFormat format, UUID schoolId, OutputStream out) throws IOException {
+        Counter rowsCounter = meterRegistry.counter("student.export.rows", "format", format.name());
+        long start = System.nanoTime();
+        long rows = 0;
+        activeExports.incrementAndGet();
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<Student> students = schoolId != null
+                ? studentRepository.streamBySchoolIdForExport(schoolId)
+                : studentRepository.streamAllForExport()) {
+
+            if (format == ExportFormat.CSV) {
+                writeCsvHeader(writer);
+            }
+
+            Iterator<Student> iterator = students.iterator();
+            while (iterator.hasNext()) {
+                Student student = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, student);
+                } else {
+                    writeJsonLine(writer, student);
+                }
+
+                // Keep the persistence context empty, rows are never needed again
+                entityManager.detach(student);
+                rows++;
+                rowsCounter.increment();
+
+                if (rows % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+                if (rows % PROGRESS_LOG_EVERY == 0) {
+                    log.info("Student export ({}) progress: {} rows, {} rows/s",
+                            format, rows, rowsPerSecond(rows, start));
+                }
+            }
+            writer.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            activeExports.decrementAndGet();
+            long elapsed = System.nanoTime() - start;
+            Timer.builder("student.export.duration")
+                    .tag("format", format.name())
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            DistributionSummary.builder("student.export.throughput")
+                    .baseUnit("rows/s")
+                    .tag("format", format.name())
+                    .register(meterRegistry)
+                    .record(rowsPerSecond(rows, start));
+        }
+
+        log.info("Student export ({}) finished: {} rows, {} rows/s", format, rows, rowsPerSecond(rows, start));
+        return rows;
+    }
+
+    /* =======================
+       INTERNAL HELPERS
+       ======================= */
+
+    private void writeJsonLine(Writer writer, Student student) throws IOException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (Column column : COLUMNS) {
+            row.put(column.name(), column.value().apply(student));
+        }
+        writer.write(jsonMapper.writeValueAsString(row));
+        writer.write('\n');
+    }
+
+    private void writeCsvHeader(Writer writer) throws IOException {
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (i > 0) writer.write(',');
+            writer.write(COLUMNS.get(i).name());
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvRow(Writer writer, Student student) throws IOException {
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (i > 0) writer.write(',');
+            Object value = COLUMNS.get(i).value().apply(student);
+            if (value != null) writer.write(escapeCsv(value.toString()));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private double rowsPerSecond(long rows, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        return seconds <= 0 ? 0 : rows / seconds;
+    }
+
+    private record Column(String name, Function<Student, Object> value) {
+    }
+}
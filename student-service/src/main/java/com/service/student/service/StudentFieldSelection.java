@@ -0,0 +1,148 @@
+package com.service.student.service;
+
+import com.service.student.dto.response.StudentResponseDTO;
+import com.service.student.entity.Student;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@code fields=} selection of a student read: which {@link StudentResponseDTO} properties
+ * the caller wants, and from that, which entity columns to load, which remote references to
+ * resolve and which derived values to compute.
+ */
+public final class StudentFieldSelection {
+
+    public static final StudentFieldSelection ALL = new StudentFieldSelection(null);
+
+    // Entity columns each enrichment or derived field is computed from
+    private static final Map<String, List<String>> DEPENDENCIES = Map.of(
+            "userInfo", List.of("userId"),
+            "communityInfo", List.of("communityId"),
+            "schoolInfo", List.of("schoolId"),
+            "age", List.of("dateOfBirth"),
+            "yearsUntilGraduation", List.of("expectedGraduationYear"),
+            "creditsPercentage", List.of("totalCredits", "completedCredits"),
+            "eligibleForGraduation", List.of("enrollmentStatus", "isGraduated", "expectedGraduationYear",
+                    "completedCredits", "totalCredits"),
+            "userReferenceValid", List.of("userId", "userSyncStatus"),
+            "advisorReferenceValid", List.of("advisorId", "advisorSyncStatus")
+    );
+
+    private static final Map<String, String> REFERENCES = Map.of(
+            "userInfo", StudentEnrichmentService.USER,
+            "communityInfo", StudentEnrichmentService.COMMUNITY,
+            "schoolInfo", StudentEnrichmentService.SCHOOL
+    );
+
+    // Initialized after DEPENDENCIES, which the entity columns are derived from
+    private static final Set<String> RESPONSE_FIELDS = responseFields();
+    private static final Set<String> ENTITY_COLUMNS = persistentResponseColumns();
+
+    // null means every field
+    private final Set<String> fields;
+
+    private StudentFieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static StudentFieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) continue;
+            if (!RESPONSE_FIELDS.contains(name)) {
+                throw new RuntimeException("Unknown student field: " + name);
+            }
+            selected.add(name);
+        }
+        return selected.isEmpty() ? ALL : new StudentFieldSelection(Collections.unmodifiableSet(selected));
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * Entity columns to select. Always contains id and createdAt, the keyset of student pages.
+     */
+    public Set<String> entityColumns() {
+        if (fields == null) {
+            return ENTITY_COLUMNS;
+        }
+
+        Set<String> columns = new LinkedHashSet<>(List.of("id", "createdAt"));
+        for (String field : fields) {
+            if (ENTITY_COLUMNS.contains(field)) columns.add(field);
+            columns.addAll(DEPENDENCIES.getOrDefault(field, List.of()));
+        }
+        return columns;
+    }
+
+    /**
+     * Remote references (user, community, school) to resolve.
+     */
+    public Set<String> references() {
+        Set<String> references = new HashSet<>();
+        REFERENCES.forEach((field, reference) -> {
+            if (includes(field)) references.add(reference);
+        });
+        return references;
+    }
+
+    /**
+     * Copies the selected properties of {@code response}, in the requested order.
+     */
+    public Map<String, Object> project(StudentResponseDTO response) {
+        BeanWrapper wrapper = new BeanWrapperImpl(response);
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (String field : fields == null ? RESPONSE_FIELDS : fields) {
+            projected.put(field, wrapper.getPropertyValue(field));
+        }
+        return projected;
+    }
+
+    private static Set<String> responseFields() {
+        Set<String> names = new LinkedHashSet<>();
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(StudentResponseDTO.class)) {
+            if (descriptor.getReadMethod() != null && !"class".equals(descriptor.getName())) {
+                names.add(descriptor.getName());
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    private static Set<String> persistentResponseColumns() {
+        Set<String> persistent = new HashSet<>();
+        Arrays.stream(Student.class.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()))
+                .map(Field::getName)
+                .forEach(persistent::add);
+
+        // Response properties that are plain copies of an entity column
+        Set<String> columns = new LinkedHashSet<>(List.of("id", "createdAt"));
+        RESPONSE_FIELDS.stream().filter(persistent::contains).forEach(columns::add);
+        DEPENDENCIES.values().forEach(columns::addAll);
+        return Collections.unmodifiableSet(columns);
+    }
+}
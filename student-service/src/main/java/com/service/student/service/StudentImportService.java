@@ -0,0 +1,544 @@
+package com.service.student.service;
+
+import com.service.school.dto.SchoolCounterBatchResultDTO;
+import com.service.school.dto.SchoolCounterDeltaDTO;
+import com.service.student.config.SchoolServiceClient;
+import com.service.student.dto.request.CreateStudentDTO;
+import com.service.student.dto.response.StudentImportErrorDTO;
+import com.service.student.dto.response.StudentImportReportDTO;
+import com.service.student.entity.Student;
+import com.service.student.enums.ExportFormat;
+import com.service.student.mapper.StudentMapper;
+import com.service.student.repository.StudentRepository;
+import com.service.student.stats.StudentStatsProjection;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports students from a CSV or NDJSON upload, read as a stream and processed in chunks.
+ * <p>
+ * For each chunk the unique keys (user, student code, ID card, passport) are checked against
+ * the database with one query, the remaining rows are inserted with one JDBC batch in their
+ * own transaction, and the student counts of the affected schools are adjusted with one call.
+ * Rejected rows never stop the import, they are listed in the returned report.
+ */
+@Slf4j
+@Service
+public class StudentImportService {
+
+    // Attempts at drawing a generated student code that is not already used in the upload
+    private static final int CODE_ATTEMPTS = 10;
+
+    // Inserted columns, in order. search_text is generated by the database.
+    private static final List<Column> COLUMNS = List.of(
+            new Column("id", Student::getId),
+            new Column("user_id", Student::getUserId),
+            new Column("student_code", Student::getStudentCode),
+            new Column("first_name", Student::getFirstName),
+            new Column("last_name", Student::getLastName),
+            new Column("full_name", Student::getFullName),
+            new Column("date_of_birth", Student::getDateOfBirth),
+            new Column("gender", Student::getGender),
+            new Column("nationality", Student::getNationality),
+            new Column("citizenship", Student::getCitizenship),
+            new Column("id_card_number", Student::getIdCardNumber),
+            new Column("passport_number", Student::getPassportNumber),
+            new Column("address", Student::getAddress),
+            new Column("city", Student::getCity),
+            new Column("state", Student::getState),
+            new Column("country", Student::getCountry),
+            new Column("postal_code", Student::getPostalCode),
+            new Column("phone_number", Student::getPhoneNumber),
+            new Column("emergency_phone", Student::getEmergencyPhone),
+            new Column("personal_email", Student::getPersonalEmail),
+            new Column("school_id", Student::getSchoolId),
+            new Column("program", Student::getProgram),
+            new Column("major", Student::getMajor),
+            new Column("minor", Student::getMinor),
+            new Column("enrollment_year", Student::getEnrollmentYear),
+            new Column("expected_graduation_year", Student::getExpectedGraduationYear),
+            new Column("enrollment_status", s -> s.getEnrollmentStatus().name()),
+            new Column("academic_level", Student::getAcademicLevel),
+            new Column("total_credits", Student::getTotalCredits),
+            new Column("completed_credits", Student::getCompletedCredits),
+            new Column("community_id", Student::getCommunityId),
+            new Column("club_id", Student::getClubId),
+            new Column("advisor_id", Student::getAdvisorId),
+            new Column("profile_picture", Student::getProfilePicture),
+            new Column("resume_url", Student::getResumeUrl),
+            new Column("linkedin_url", Student::getLinkedinUrl),
+            new Column("github_url", Student::getGithubUrl),
+            new Column("portfolio_url", Student::getPortfolioUrl),
+            new Column("is_international", Student::getIsInternational),
+            new Column("visa_status", Student::getVisaStatus),
+            new Column("financial_aid_status", Student::getFinancialAidStatus),
+            new Column("scholarship_name", Student::getScholarshipName),
+            new Column("disabilities", Student::getDisabilities),
+            new Column("special_needs", Student::getSpecialNeeds),
+            new Column("medical_conditions", Student::getMedicalConditions),
+            new Column("emergency_contact_name", Student::getEmergencyContactName),
+            new Column("emergency_contact_relationship", Student::getEmergencyContactRelationship),
+            new Column("emergency_contact_address", Student::getEmergencyContactAddress),
+            new Column("emergency_contact_email", Student::getEmergencyContactEmail),
+            new Column("is_active", Student::getIsActive),
+            new Column("is_graduated", Student::getIsGraduated),
+            new Column("notes", Student::getNotes),
+            new Column("created_at", s -> Timestamp.valueOf(s.getCreatedAt())),
+            new Column("updated_at", s -> Timestamp.valueOf(s.getUpdatedAt())),
+            new Column("user_sync_status", Student::getUserSyncStatus),
+            new Column("advisor_sync_status", Student::getAdvisorSyncStatus),
+            new Column("sync_attempts", Student::getSyncAttempts)
+    );
+
+    private static final String INSERT = "INSERT INTO student_schema.students ("
+            + COLUMNS.stream().map(Column::name).collect(Collectors.joining(", "))
+            + ") VALUES ("
+            + COLUMNS.stream().map(column -> "?").collect(Collectors.joining(", "))
+            + ")";
+
+    private final StudentRepository studentRepository;
+    private final StudentMapper studentMapper;
+    private final SchoolServiceClient schoolServiceClient;
+    private final StudentStatsProjection statsProjection;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader rowReader;
+    private final JsonMapper jsonMapper;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public StudentImportService(StudentRepository studentRepository,
+                                StudentMapper studentMapper,
+                                SchoolServiceClient schoolServiceClient,
+                                StudentStatsProjection statsProjection,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                JsonMapper jsonMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${student.import.chunk-size:500}") int chunkSize,
+                                @Value("${student.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.studentRepository = studentRepository;
+        this.studentMapper = studentMapper;
+        this.schoolServiceClient = schoolServiceClient;
+        this.statsProjection = statsProjection;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonMapper = jsonMapper;
+        // Exports carry read-only columns (id, createdAt...), so they can be re-imported as is
+        this.rowReader = jsonMapper.readerFor(CreateStudentDTO.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Reads {@code in} to the end and imports every valid row. The caller owns the stream.
+     */
+    public StudentImportReportDTO importStudents(ExportFormat format, InputStream in) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long start = System.nanoTime();
+        ImportRun run = new ImportRun();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        try {
+            if (format == ExportFormat.CSV) {
+                List<String> header = readCsvRecord(reader);
+                if (header == null) {
+                    throw new RuntimeException("CSV upload is empty, a header row is required");
+                }
+                List<String> record;
+                while ((record = readCsvRecord(reader)) != null) {
+                    if (record.size() == 1 && record.get(0).isEmpty()) continue;
+                    chunk.add(parseCsvRow(++run.rowsRead, header, record));
+                    if (chunk.size() == chunkSize) flush(chunk, run);
+                }
+            } else {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) continue;
+                    chunk.add(parseJsonRow(++run.rowsRead, line));
+                    if (chunk.size() == chunkSize) flush(chunk, run);
+                }
+            }
+            flush(chunk, run);
+        } finally {
+            sample.stop(meterRegistry.timer("student.import.duration", "format", format.name()));
+            if (run.rowsImported > 0) {
+                // JDBC inserts bypass the entity listeners that keep the stats projection current
+                statsProjection.reconcile();
+            }
+        }
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        double rowsPerSecond = durationMs > 0 ? run.rowsRead * 1000.0 / durationMs : 0;
+        log.info("Student import ({}) finished: {} read, {} imported, {} rejected in {} chunks, {} rows/s",
+                format, run.rowsRead, run.rowsImported, run.rowsRejected, run.chunks,
+                String.format("%.0f", rowsPerSecond));
+
+        return new StudentImportReportDTO(format.name(), run.rowsRead, run.rowsImported, run.rowsRejected,
+                run.chunks, durationMs, rowsPerSecond, run.errors, run.rowsRejected > run.errors.size());
+    }
+
+    /* =======================
+       CHUNK PROCESSING
+       ======================= */
+
+    private void flush(List<ImportRow> chunk, ImportRun run) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        processChunk(chunk, run);
+        run.chunks++;
+        chunk.clear();
+    }
+
+    private void processChunk(List<ImportRow> chunk, ImportRun run) {
+        List<Candidate> candidates = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (row.error() != null) {
+                run.reject(row.row(), null, null, row.error());
+                continue;
+            }
+
+            CreateStudentDTO dto = row.dto();
+            String invalid = validate(dto);
+            if (invalid != null) {
+                run.reject(row.row(), dto.getUserId(), dto.getStudentCode(), invalid);
+                continue;
+            }
+
+            candidates.add(new Candidate(row.row(), toStudent(dto, run)));
+        }
+
+        // Rows refused by the database claim no key, so a later row using the same key is not
+        // reported as a duplicate
+        List<Candidate> claimed = new ArrayList<>(candidates.size());
+        for (Candidate candidate : rejectExisting(candidates, run)) {
+            Student student = candidate.student();
+            String duplicate = run.claim(student);
+            if (duplicate != null) {
+                run.reject(candidate.row(), student.getUserId(), student.getStudentCode(), duplicate);
+            } else {
+                claimed.add(candidate);
+            }
+        }
+
+        List<Candidate> inserted = insert(claimed, run);
+        run.rowsImported += inserted.size();
+        meterRegistry.counter("student.import.rows", "result", "imported").increment(inserted.size());
+
+        adjustSchoolCounts(inserted);
+    }
+
+    private String validate(CreateStudentDTO dto) {
+        if (dto.getUserId() == null) return "User UUID is required";
+        if (dto.getFirstName() == null || dto.getFirstName().isBlank()) return "First name is required";
+        if (dto.getLastName() == null || dto.getLastName().isBlank()) return "Last name is required";
+        return null;
+    }
+
+    private Student toStudent(CreateStudentDTO dto, ImportRun run) {
+        Student student = studentMapper.toEntity(dto);
+        student.setId(UUID.randomUUID());
+        student.setUserSyncStatus("PENDING");
+        student.setAdvisorSyncStatus("PENDING");
+        student.applyCreationDefaults();
+
+        boolean generatedCode = dto.getStudentCode() == null || dto.getStudentCode().trim().isEmpty();
+        for (int attempt = 1; generatedCode && attempt < CODE_ATTEMPTS
+                && run.studentCodes.contains(student.getStudentCode()); attempt++) {
+            student.setStudentCode(null);
+            student.applyCreationDefaults();
+        }
+        return student;
+    }
+
+    /**
+     * Drops the candidates that collide with rows already in the database, using one query.
+     */
+    private List<Candidate> rejectExisting(List<Candidate> candidates, ImportRun run) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Set<UUID> userIds = new HashSet<>();
+        Set<String> studentCodes = new HashSet<>();
+        Set<String> idCardNumbers = new HashSet<>();
+        Set<String> passportNumbers = new HashSet<>();
+        for (Candidate candidate : candidates) {
+            Student student = candidate.student();
+            userIds.add(student.getUserId());
+            studentCodes.add(student.getStudentCode());
+            if (student.getIdCardNumber() != null) idCardNumbers.add(student.getIdCardNumber());
+            if (student.getPassportNumber() != null) passportNumbers.add(student.getPassportNumber());
+        }
+
+        Set<UUID> takenUserIds = new HashSet<>();
+        Set<String> takenStudentCodes = new HashSet<>();
+        Set<String> takenIdCardNumbers = new HashSet<>();
+        Set<String> takenPassportNumbers = new HashSet<>();
+        for (Object[] row : studentRepository.findUniqueKeyConflicts(userIds, studentCodes, idCardNumbers, passportNumbers)) {
+            takenUserIds.add((UUID) row[0]);
+            if (row[1] != null) takenStudentCodes.add((String) row[1]);
+            if (row[2] != null) takenIdCardNumbers.add((String) row[2]);
+            if (row[3] != null) takenPassportNumbers.add((String) row[3]);
+        }
+
+        List<Candidate> remaining = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            Student student = candidate.student();
+            String conflict = null;
+            if (takenUserIds.contains(student.getUserId())) {
+                conflict = "User already has a student profile";
+            } else if (takenStudentCodes.contains(student.getStudentCode())) {
+                conflict = "Student code already exists";
+            } else if (student.getIdCardNumber() != null && takenIdCardNumbers.contains(student.getIdCardNumber())) {
+                conflict = "ID card number already exists";
+            } else if (student.getPassportNumber() != null && takenPassportNumbers.contains(student.getPassportNumber())) {
+                conflict = "Passport number already exists";
+            }
+
+            if (conflict != null) {
+                run.reject(candidate.row(), student.getUserId(), student.getStudentCode(), conflict);
+            } else {
+                remaining.add(candidate);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Inserts the chunk as one JDBC batch. If the batch is refused (a concurrent insert took
+     * one of the keys), the rows are retried one by one so only the offending ones are rejected.
+     */
+    private List<Candidate> insert(List<Candidate> candidates, ImportRun run) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        try {
+            List<Object[]> args = candidates.stream().map(candidate -> values(candidate.student())).toList();
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT, args));
+            return candidates;
+        } catch (DataAccessException e) {
+            log.warn("Batch insert of {} students failed, retrying row by row: {}",
+                    candidates.size(), e.getMostSpecificCause().getMessage());
+        }
+
+        List<Candidate> inserted = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            Student student = candidate.student();
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT, values(student)));
+                inserted.add(candidate);
+            } catch (DataAccessException e) {
+                run.release(student);
+                run.reject(candidate.row(), student.getUserId(), student.getStudentCode(),
+                        e.getMostSpecificCause().getMessage());
+            }
+        }
+        return inserted;
+    }
+
+    private Object[] values(Student student) {
+        Object[] values = new Object[COLUMNS.size()];
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            values[i] = COLUMNS.get(i).value().apply(student);
+        }
+        return values;
+    }
+
+    private void adjustSchoolCounts(List<Candidate> inserted) {
+        Map<UUID, Integer> deltas = new HashMap<>();
+        for (Candidate candidate : inserted) {
+            UUID schoolId = candidate.student().getSchoolId();
+            if (schoolId != null) deltas.merge(schoolId, 1, Integer::sum);
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<SchoolCounterDeltaDTO> batch = new ArrayList<>(deltas.size());
+        deltas.forEach((schoolId, delta) -> batch.add(new SchoolCounterDeltaDTO(schoolId, delta, 0)));
+        try {
+            SchoolCounterBatchResultDTO result = schoolServiceClient.applyCounterDeltas(batch);
+            if (result != null && result.getUnknownSchoolIds() != null && !result.getUnknownSchoolIds().isEmpty()) {
+                log.warn("School service does not know schools {} referenced by imported students",
+                        result.getUnknownSchoolIds());
+            }
+        } catch (Exception e) {
+            // The students are committed, only the denormalized counters are behind
+            meterRegistry.counter("student.import.school-count.failures").increment();
+            log.error("Failed to update the student counts of {} schools: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /* =======================
+       PARSING
+       ======================= */
+
+    private ImportRow parseJsonRow(long row, String line) {
+        try {
+            return new ImportRow(row, rowReader.readValue(line), null);
+        } catch (JacksonException e) {
+            return new ImportRow(row, null, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private ImportRow parseCsvRow(long row, List<String> header, List<String> record) {
+        if (record.size() > header.size()) {
+            return new ImportRow(row, null, "Expected " + header.size() + " columns, found " + record.size());
+        }
+
+        ObjectNode node = jsonMapper.createObjectNode();
+        for (int i = 0; i < record.size(); i++) {
+            // Empty cells are absent values, not empty strings
+            if (!record.get(i).isEmpty()) node.put(header.get(i).trim(), record.get(i));
+        }
+        try {
+            return new ImportRow(row, rowReader.readValue(node), null);
+        } catch (JacksonException e) {
+            return new ImportRow(row, null, "Invalid value: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Reads one RFC 4180 record (quoted fields may contain commas, quotes and line breaks).
+     * Returns null at the end of the stream.
+     */
+    private static List<String> readCsvRecord(Reader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /* =======================
+       RUN STATE
+       ======================= */
+
+    private final class ImportRun {
+        long rowsRead;
+        long rowsImported;
+        long rowsRejected;
+        long chunks;
+        final List<StudentImportErrorDTO> errors = new ArrayList<>();
+
+        // Unique keys already used by earlier rows of the same upload
+        final Set<UUID> userIds = new HashSet<>();
+        final Set<String> studentCodes = new HashSet<>();
+        final Set<String> idCardNumbers = new HashSet<>();
+        final Set<String> passportNumbers = new HashSet<>();
+
+        /**
+         * Reserves the unique keys of the row, or returns why one of them is already used. A
+         * refused row reserves nothing.
+         */
+        String claim(Student student) {
+            if (userIds.contains(student.getUserId())) return "Duplicate user in upload";
+            if (studentCodes.contains(student.getStudentCode())) return "Duplicate student code in upload";
+            if (student.getIdCardNumber() != null && idCardNumbers.contains(student.getIdCardNumber())) {
+                return "Duplicate ID card number in upload";
+            }
+            if (student.getPassportNumber() != null && passportNumbers.contains(student.getPassportNumber())) {
+                return "Duplicate passport number in upload";
+            }
+
+            userIds.add(student.getUserId());
+            studentCodes.add(student.getStudentCode());
+            if (student.getIdCardNumber() != null) idCardNumbers.add(student.getIdCardNumber());
+            if (student.getPassportNumber() != null) passportNumbers.add(student.getPassportNumber());
+            return null;
+        }
+
+        // Gives back the keys of a claimed row that was not inserted after all
+        void release(Student student) {
+            userIds.remove(student.getUserId());
+            studentCodes.remove(student.getStudentCode());
+            if (student.getIdCardNumber() != null) idCardNumbers.remove(student.getIdCardNumber());
+            if (student.getPassportNumber() != null) passportNumbers.remove(student.getPassportNumber());
+        }
+
+        void reject(long row, UUID userId, String studentCode, String message) {
+            rowsRejected++;
+            meterRegistry.counter("student.import.rows", "result", "rejected").increment();
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new StudentImportErrorDTO(row, userId, studentCode, message));
+            }
+        }
+    }
+
+    private record ImportRow(long row, CreateStudentDTO dto, String error) {
+    }
+
+    private record Candidate(long row, Student student) {
+    }
+
+    private record Column(String name, Function<Student, Object> value) {
+    }
+}
@@ -0,0 +1,275 @@
+package com.service.student.service;
+
+import com.service.student.dto.response.BatchJobReportDTO;
+import com.service.student.entity.JobCheckpoint;
+import com.service.student.enums.EnrollmentStatus;
+import com.service.student.enums.MaintenanceJob;
+import com.service.student.repository.JobCheckpointRepository;
+import com.service.student.repository.StudentRepository;
+import com.service.student.stats.StudentStatsProjection;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Runs the student maintenance jobs as set-based, chunked batches.
+ * <p>
+ * Each chunk selects the next ids after the checkpoint (keyset on the primary key), applies
+ * the rule with one bulk UPDATE, and moves the checkpoint forward, all in its own short
+ * transaction. An interrupted or failed run is resumed from its checkpoint the next time the
+ * same job is started with the same arguments.
+ */
+@Slf4j
+@Service
+public class StudentMaintenanceJobService {
+
+    private static final String RUNNING = "RUNNING";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String FAILED = "FAILED";
+
+    // Lowest uuid, the keyset starting point of a fresh run
+    private static final UUID START = new UUID(0L, 0L);
+
+    private final StudentRepository studentRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final StudentStatsProjection statsProjection;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+
+    private final Set<MaintenanceJob> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public StudentMaintenanceJobService(StudentRepository studentRepository,
+                                        JobCheckpointRepository checkpointRepository,
+                                        StudentStatsProjection statsProjection,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${student.batch.chunk-size:1000}") int chunkSize) {
+        this.studentRepository = studentRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.statsProjection = statsProjection;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+
+        meterRegistry.gauge("student.batch.running", runningJobs, Set::size);
+    }
+
+    /* =======================
+       JOBS
+       ======================= */
+
+    public BatchJobReportDTO updateAcademicLevels() {
+        return run(MaintenanceJob.UPDATE_ACADEMIC_LEVELS, null,
+                studentRepository::findIdsAfter,
+                studentRepository::recalculateAcademicLevels);
+    }
+
+    public BatchJobReportDTO graduateEligibleStudents() {
+        return run(MaintenanceJob.GRADUATE_ELIGIBLE, null,
+                studentRepository::findEligibleForGraduationIdsAfter,
+                ids -> studentRepository.graduate(ids, EnrollmentStatus.GRADUATED));
+    }
+
+    public BatchJobReportDTO deactivateInactiveStudents(LocalDate cutoffDate) {
+        LocalDateTime cutoff = cutoffDate.atStartOfDay();
+        return run(MaintenanceJob.DEACTIVATE_INACTIVE, "cutoffDate=" + cutoffDate,
+                (after, page) -> studentRepository.findInactiveIdsAfter(after, cutoff, page),
+                ids -> studentRepository.deactivate(ids, cutoff, EnrollmentStatus.INACTIVE));
+    }
+
+    public BatchJobReportDTO getJobStatus(MaintenanceJob job) {
+        return checkpointRepository.findById(job.name())
+                .map(checkpoint -> toReport(checkpoint, false))
+                .orElseThrow(() -> new RuntimeException("No run recorded for job: " + job));
+    }
+
+    /* =======================
+       CHUNK RUNNER
+       ======================= */
+
+    private BatchJobReportDTO run(MaintenanceJob job,
+                                  String parameters,
+                                  BiFunction<UUID, Pageable, List<UUID>> nextIds,
+                                  Function<List<UUID>, Integer> bulkUpdate) {
+        if (!runningJobs.add(job)) {
+            throw new RuntimeException("Job already running: " + job);
+        }
+
+        try {
+            JobCheckpoint checkpoint = transactionTemplate.execute(status -> start(job, parameters));
+            boolean resumed = checkpoint.getChunks() > 0;
+            if (resumed) {
+                log.info("Resuming {} after id {} ({} rows already scanned)",
+                        job, checkpoint.getLastId(), checkpoint.getRowsScanned());
+            } else {
+                log.info("Starting {} with chunks of {}", job, chunkSize);
+            }
+
+            Timer chunkTimer = Timer.builder("student.batch.chunk.duration")
+                    .tag("job", job.name())
+                    .register(meterRegistry);
+            long runStart = System.nanoTime();
+            long runScanned = 0;
+
+            while (true) {
+                UUID after = checkpoint.getLastId();
+                long chunkStart = System.nanoTime();
+
+                JobCheckpoint progressed;
+                try {
+                    progressed = transactionTemplate.execute(status -> {
+                        List<UUID> ids = nextIds.apply(after, PageRequest.of(0, chunkSize));
+                        if (ids.isEmpty()) {
+                            return null;
+                        }
+                        int updated = bulkUpdate.apply(ids);
+                        return advance(job, ids, updated);
+                    });
+                } catch (RuntimeException e) {
+                    fail(job, e);
+                    throw new RuntimeException("Job " + job + " failed after id " + after + ": " + e.getMessage(), e);
+                }
+
+                if (progressed == null) {
+                    break;
+                }
+                chunkTimer.record(Duration.ofNanos(System.nanoTime() - chunkStart));
+
+                long scanned = progressed.getRowsScanned() - checkpoint.getRowsScanned();
+                long updated = progressed.getRowsUpdated() - checkpoint.getRowsUpdated();
+                meterRegistry.counter("student.batch.rows", "job", job.name(), "kind", "scanned").increment(scanned);
+                meterRegistry.counter("student.batch.rows", "job", job.name(), "kind", "updated").increment(updated);
+                runScanned += scanned;
+                checkpoint = progressed;
+
+                log.info("{}: chunk {} done, {} scanned / {} updated so far, {} rows/s",
+                        job, checkpoint.getChunks(), checkpoint.getRowsScanned(), checkpoint.getRowsUpdated(),
+                        String.format("%.0f", rowsPerSecond(runScanned, runStart)));
+            }
+
+            JobCheckpoint finished = transactionTemplate.execute(status -> complete(job));
+            log.info("{} completed: {} scanned, {} updated in {} chunks",
+                    job, finished.getRowsScanned(), finished.getRowsUpdated(), finished.getChunks());
+            if (finished.getRowsUpdated() > 0) {
+                // Bulk updates bypass the entity listeners that keep the stats projection current
+                statsProjection.reconcile();
+            }
+            return toReport(finished, resumed);
+        } finally {
+            runningJobs.remove(job);
+        }
+    }
+
+    private JobCheckpoint start(MaintenanceJob job, String parameters) {
+        JobCheckpoint existing = checkpointRepository.findById(job.name()).orElse(null);
+        if (existing != null
+                && !COMPLETED.equals(existing.getStatus())
+                && Objects.equals(existing.getParameters(), parameters)) {
+            existing.setStatus(RUNNING);
+            existing.setLastError(null);
+            existing.setUpdatedAt(LocalDateTime.now());
+            return checkpointRepository.save(existing);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        JobCheckpoint checkpoint = existing != null ? existing : new JobCheckpoint();
+        checkpoint.setJobName(job.name());
+        checkpoint.setStatus(RUNNING);
+        checkpoint.setParameters(parameters);
+        checkpoint.setLastId(START);
+        checkpoint.setRowsScanned(0);
+        checkpoint.setRowsUpdated(0);
+        checkpoint.setChunks(0);
+        checkpoint.setStartedAt(now);
+        checkpoint.setUpdatedAt(now);
+        checkpoint.setFinishedAt(null);
+        checkpoint.setLastError(null);
+        return checkpointRepository.save(checkpoint);
+    }
+
+    private JobCheckpoint advance(MaintenanceJob job, List<UUID> ids, int updated) {
+        JobCheckpoint checkpoint = getCheckpoint(job);
+        checkpoint.setLastId(ids.get(ids.size() - 1));
+        checkpoint.setRowsScanned(checkpoint.getRowsScanned() + ids.size());
+        checkpoint.setRowsUpdated(checkpoint.getRowsUpdated() + updated);
+        checkpoint.setChunks(checkpoint.getChunks() + 1);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        return checkpointRepository.save(checkpoint);
+    }
+
+    private JobCheckpoint complete(MaintenanceJob job) {
+        JobCheckpoint checkpoint = getCheckpoint(job);
+        LocalDateTime now = LocalDateTime.now();
+        checkpoint.setStatus(COMPLETED);
+        checkpoint.setUpdatedAt(now);
+        checkpoint.setFinishedAt(now);
+        return checkpointRepository.save(checkpoint);
+    }
+
+    private void fail(MaintenanceJob job, RuntimeException cause) {
+        log.error("{} failed, it will resume from its last checkpoint: {}", job, cause.getMessage(), cause);
+        meterRegistry.counter("student.batch.failures", "job", job.name()).increment();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                JobCheckpoint checkpoint = getCheckpoint(job);
+                checkpoint.setStatus(FAILED);
+                checkpoint.setUpdatedAt(LocalDateTime.now());
+                String message = String.valueOf(cause.getMessage());
+                checkpoint.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+                checkpointRepository.save(checkpoint);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Could not record failure of {}: {}", job, e.getMessage());
+        }
+    }
+
+    private JobCheckpoint getCheckpoint(MaintenanceJob job) {
+        return checkpointRepository.findById(job.name())
+                .orElseThrow(() -> new RuntimeException("Checkpoint not found for job: " + job));
+    }
+
+    private BatchJobReportDTO toReport(JobCheckpoint checkpoint, boolean resumed) {
+        LocalDateTime end = checkpoint.getFinishedAt() != null ? checkpoint.getFinishedAt() : checkpoint.getUpdatedAt();
+        long durationMs = checkpoint.getStartedAt() != null && end != null
+                ? Duration.between(checkpoint.getStartedAt(), end).toMillis()
+                : 0;
+        double rowsPerSecond = durationMs > 0 ? checkpoint.getRowsScanned() * 1000.0 / durationMs : 0;
+
+        return new BatchJobReportDTO(
+                checkpoint.getJobName(),
+                checkpoint.getStatus(),
+                checkpoint.getParameters(),
+                resumed,
+                checkpoint.getRowsScanned(),
+                checkpoint.getRowsUpdated(),
+                checkpoint.getChunks(),
+                checkpoint.getStartedAt(),
+                checkpoint.getFinishedAt(),
+                durationMs,
+                rowsPerSecond
+        );
+    }
+
+    private double rowsPerSecond(long rows, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        return seconds <= 0 ? 0 : rows / seconds;
+    }
+}
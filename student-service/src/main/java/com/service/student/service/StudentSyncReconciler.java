@@ -0,0 +1,297 @@
+package com.service.student.service;
+
+import com.service.student.cache.StudentReferenceCaches;
+import com.service.student.config.UserServiceClient;
+import com.service.student.dto.sync.PendingSyncDTO;
+import com.service.student.repository.StudentRepository;
+import com.service.user.dto.user.UserMinimalDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background worker that brings PENDING/FAILED user and advisor sync statuses up to date.
+ * <p>
+ * Every run pages through the due rows in id order, resolves the referenced users (and
+ * advisors, which are users too) with one bulk call per page, and writes the outcome back in
+ * JDBC batches. Rows that could not be synced are retried later with exponential backoff.
+ * A row changed since it was read (new advisor, edited names, statuses reset) is left alone
+ * and picked up again by a later run.
+ */
+@Slf4j
+@Service
+public class StudentSyncReconciler {
+
+    private static final String SYNCED = "SYNCED";
+    private static final String FAILED = "FAILED";
+
+    private static final UUID START = new UUID(0L, 0L);
+    private static final int MAX_IDS_PER_CALL = 500;
+
+    // Values read with the row; a concurrent update changed at least one of them if nothing matches
+    private static final String UNCHANGED_SINCE_READ = """
+              AND user_id IS NOT DISTINCT FROM ?
+              AND advisor_id IS NOT DISTINCT FROM ?
+              AND user_sync_status IS NOT DISTINCT FROM ?
+              AND advisor_sync_status IS NOT DISTINCT FROM ?
+              AND updated_at IS NOT DISTINCT FROM ?
+            """;
+
+    private static final String UPDATE_WITH_USER = """
+            UPDATE student_schema.students
+            SET first_name = ?, last_name = ?, full_name = ?, profile_picture = ?,
+                user_sync_status = ?, advisor_sync_status = ?, sync_attempts = ?, next_sync_at = ?,
+                last_sync_attempt = ?, updated_at = ?
+            WHERE id = ?
+            """ + UNCHANGED_SINCE_READ;
+
+    private static final String UPDATE_STATUS_ONLY = """
+            UPDATE student_schema.students
+            SET user_sync_status = ?, advisor_sync_status = ?, sync_attempts = ?, next_sync_at = ?,
+                last_sync_attempt = ?
+            WHERE id = ?
+            """ + UNCHANGED_SINCE_READ;
+
+    private final StudentRepository studentRepository;
+    private final UserServiceClient userServiceClient;
+    private final StudentReferenceCaches referenceCaches;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final int pageSize;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final AtomicLong userBacklog = new AtomicLong();
+    private final AtomicLong advisorBacklog = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public StudentSyncReconciler(StudentRepository studentRepository,
+                                 UserServiceClient userServiceClient,
+                                 StudentReferenceCaches referenceCaches,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${student.sync.reconciler.enabled:true}") boolean enabled,
+                                 @Value("${student.sync.reconciler.page-size:200}") int pageSize,
+                                 @Value("${student.sync.reconciler.initial-backoff:30s}") Duration initialBackoff,
+                                 @Value("${student.sync.reconciler.max-backoff:1h}") Duration maxBackoff) {
+        this.studentRepository = studentRepository;
+        this.userServiceClient = userServiceClient;
+        this.referenceCaches = referenceCaches;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+
+        meterRegistry.gauge("student.sync.backlog", Tags.of("type", "user"), userBacklog);
+        meterRegistry.gauge("student.sync.backlog", Tags.of("type", "advisor"), advisorBacklog);
+        meterRegistry.gauge("student.sync.lag.seconds", lagSeconds);
+    }
+
+    @Scheduled(initialDelayString = "${student.sync.reconciler.initial-delay:30s}",
+            fixedDelayString = "${student.sync.reconciler.interval:1m}")
+    public void scheduledReconcile() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (Exception e) {
+            // Next run picks up where this one failed
+            log.error("Sync reconciliation run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Processes every row that is due now and returns the number of rows handled.
+     */
+    public long reconcile() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        UUID after = START;
+        long processed = 0;
+        long synced = 0;
+
+        while (true) {
+            List<PendingSyncDTO> page = studentRepository.findDueForSyncAfter(after, now, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            synced += reconcilePage(page);
+            processed += page.size();
+            after = page.get(page.size() - 1).getStudentId();
+        }
+
+        sample.stop(meterRegistry.timer("student.sync.run.duration"));
+        refreshBacklog();
+
+        if (processed > 0) {
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            log.info("Sync reconciliation: {} rows processed, {} fully synced, {} rows/s, backlog user={} advisor={}",
+                    processed, synced, String.format("%.0f", seconds > 0 ? processed / seconds : 0),
+                    userBacklog.get(), advisorBacklog.get());
+        }
+        return processed;
+    }
+
+    /* =======================
+       INTERNAL HELPERS
+       ======================= */
+
+    private int reconcilePage(List<PendingSyncDTO> page) {
+        Set<UUID> ids = new LinkedHashSet<>();
+        for (PendingSyncDTO row : page) {
+            if (!SYNCED.equals(row.getUserSyncStatus()) && row.getUserId() != null) ids.add(row.getUserId());
+            if (!SYNCED.equals(row.getAdvisorSyncStatus()) && row.getAdvisorId() != null) ids.add(row.getAdvisorId());
+        }
+
+        Map<UUID, UserMinimalDTO> users = new HashMap<>();
+        boolean lookupFailed = false;
+        List<UUID> pending = new ArrayList<>(ids);
+        for (int from = 0; from < pending.size() && !lookupFailed; from += MAX_IDS_PER_CALL) {
+            List<UUID> chunk = pending.subList(from, Math.min(from + MAX_IDS_PER_CALL, pending.size()));
+            try {
+                List<UserMinimalDTO> found = userServiceClient.getUsersMinimalByIds(chunk);
+                if (found != null) {
+                    found.forEach(user -> users.put(user.getId(), user));
+                }
+            } catch (Exception e) {
+                log.warn("User lookup failed for {} ids, page will be retried with backoff: {}", chunk.size(), e.getMessage());
+                lookupFailed = true;
+            }
+        }
+        users.forEach((id, user) -> referenceCaches.users().put(id, user));
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+        List<Object[]> withUser = new ArrayList<>();
+        List<Object[]> statusOnly = new ArrayList<>();
+        List<Outcome> withUserOutcomes = new ArrayList<>();
+        List<Outcome> statusOnlyOutcomes = new ArrayList<>();
+
+        for (PendingSyncDTO row : page) {
+            UserMinimalDTO user = null;
+            String userStatus = row.getUserSyncStatus();
+            if (!SYNCED.equals(userStatus)) {
+                user = lookupFailed ? null : users.get(row.getUserId());
+                userStatus = user != null ? SYNCED : FAILED;
+            }
+
+            String advisorStatus = row.getAdvisorSyncStatus();
+            if (!SYNCED.equals(advisorStatus)) {
+                // Nothing to verify without an advisor, same as syncWithAdvisorService
+                advisorStatus = row.getAdvisorId() == null || (!lookupFailed && users.containsKey(row.getAdvisorId()))
+                        ? SYNCED : FAILED;
+            }
+
+            int attempts;
+            Timestamp nextSyncAt;
+            if (SYNCED.equals(userStatus) && SYNCED.equals(advisorStatus)) {
+                attempts = 0;
+                nextSyncAt = null;
+            } else {
+                attempts = (row.getSyncAttempts() == null ? 0 : row.getSyncAttempts()) + 1;
+                nextSyncAt = Timestamp.valueOf(now.plus(backoff(attempts)));
+            }
+
+            Object[] readValues = {
+                    row.getUserId(), row.getAdvisorId(), row.getUserSyncStatus(), row.getAdvisorSyncStatus(),
+                    row.getUpdatedAt() == null ? null : Timestamp.valueOf(row.getUpdatedAt())};
+            Outcome outcome = new Outcome(row, userStatus, advisorStatus);
+            if (user != null) {
+                withUser.add(guarded(readValues,
+                        user.getFirstName(), user.getLastName(), fullName(user), user.getProfilePicture(),
+                        userStatus, advisorStatus, attempts, nextSyncAt, nowTs, nowTs, row.getStudentId()));
+                withUserOutcomes.add(outcome);
+            } else {
+                statusOnly.add(guarded(readValues,
+                        userStatus, advisorStatus, attempts, nextSyncAt, nowTs, row.getStudentId()));
+                statusOnlyOutcomes.add(outcome);
+            }
+        }
+
+        int[][] updated = transactionTemplate.execute(status -> new int[][]{
+                withUser.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(UPDATE_WITH_USER, withUser),
+                statusOnly.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(UPDATE_STATUS_ONLY, statusOnly)});
+        return applied(withUserOutcomes, updated[0]) + applied(statusOnlyOutcomes, updated[1]);
+    }
+
+    // Outcome of one row, counted only once its update went through
+    private record Outcome(PendingSyncDTO row, String userStatus, String advisorStatus) {
+    }
+
+    private Object[] guarded(Object[] readValues, Object... values) {
+        Object[] args = new Object[values.length + readValues.length];
+        System.arraycopy(values, 0, args, 0, values.length);
+        System.arraycopy(readValues, 0, args, values.length, readValues.length);
+        return args;
+    }
+
+    private int applied(List<Outcome> outcomes, int[] updateCounts) {
+        int fullySynced = 0;
+        for (int i = 0; i < outcomes.size(); i++) {
+            Outcome outcome = outcomes.get(i);
+            if (updateCounts[i] == 0) {
+                // Changed since it was read; the next run sees the new values
+                log.debug("Student {} changed during sync reconciliation, skipped", outcome.row().getStudentId());
+                meterRegistry.counter("student.sync.skipped").increment();
+                continue;
+            }
+            if (!SYNCED.equals(outcome.row().getUserSyncStatus())) count("user", outcome.userStatus());
+            if (!SYNCED.equals(outcome.row().getAdvisorSyncStatus())) count("advisor", outcome.advisorStatus());
+            if (SYNCED.equals(outcome.userStatus()) && SYNCED.equals(outcome.advisorStatus())) fullySynced++;
+        }
+        return fullySynced;
+    }
+
+    private Duration backoff(int attempts) {
+        // initial * 2^(attempts - 1), capped; the shift is bounded so it cannot overflow
+        long factor = 1L << Math.min(attempts - 1, 20);
+        Duration delay = initialBackoff.multipliedBy(factor);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private String fullName(UserMinimalDTO user) {
+        if (user.getFirstName() == null) return user.getLastName();
+        if (user.getLastName() == null) return user.getFirstName();
+        return user.getFirstName() + " " + user.getLastName();
+    }
+
+    private void count(String type, String result) {
+        meterRegistry.counter("student.sync.reconciled", "type", type, "result", result.toLowerCase()).increment();
+    }
+
+    private void refreshBacklog() {
+        userBacklog.set(studentRepository.countUserSyncBacklog());
+        advisorBacklog.set(studentRepository.countAdvisorSyncBacklog());
+        LocalDateTime oldest = studentRepository.findOldestUnsyncedCreatedAt();
+        lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).getSeconds()));
+    }
+}
@@ -0,0 +1,37 @@
+package com.service.student.stats;
+
+import com.service.student.entity.Student;
+import com.service.student.enums.EnrollmentStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * The part of a student that feeds the statistics projection. The difference between the
+ * contribution before and after a write is what gets applied to the counters.
+ */
+public record StudentStatsContribution(
+        EnrollmentStatus status,
+        UUID schoolId,
+        String program,
+        String academicLevel,
+        BigDecimal gpa,
+        int completedCredits,
+        boolean international) {
+
+    public static StudentStatsContribution of(Student student) {
+        return new StudentStatsContribution(
+                student.getEnrollmentStatus(),
+                student.getSchoolId(),
+                student.getProgram(),
+                student.getAcademicLevel(),
+                student.getGpa(),
+                student.getCompletedCredits() == null ? 0 : student.getCompletedCredits(),
+                Boolean.TRUE.equals(student.getIsInternational())
+        );
+    }
+
+    public boolean isActive() {
+        return status == EnrollmentStatus.ACTIVE;
+    }
+}
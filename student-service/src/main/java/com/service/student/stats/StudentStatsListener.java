@@ -0,0 +1,71 @@
+package com.service.student.stats;
+
+import com.service.student.entity.Student;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+
+/**
+ * Feeds {@link StudentStatsProjection} from the student entity lifecycle. The contribution
+ * seen at load time is kept on the entity, so an update applies only its difference, and
+ * nothing is applied before the transaction commits.
+ */
+@Component
+public class StudentStatsListener {
+
+    // Resolved lazily: this listener is created while the EntityManagerFactory is being built
+    private final ObjectProvider<StudentStatsProjection> projection;
+
+    public StudentStatsListener(ObjectProvider<StudentStatsProjection> projection) {
+        this.projection = projection;
+    }
+
+    @PostLoad
+    public void onLoad(Student student) {
+        student.setStatsContribution(StudentStatsContribution.of(student));
+    }
+
+    @PostPersist
+    public void onPersist(Student student) {
+        StudentStatsContribution after = StudentStatsContribution.of(student);
+        student.setStatsContribution(after);
+        afterCommit(null, after);
+    }
+
+    @PostUpdate
+    public void onUpdate(Student student) {
+        StudentStatsContribution before = student.getStatsContribution();
+        StudentStatsContribution after = StudentStatsContribution.of(student);
+        student.setStatsContribution(after);
+        if (!Objects.equals(before, after)) {
+            afterCommit(before, after);
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Student student) {
+        StudentStatsContribution before = student.getStatsContribution();
+        student.setStatsContribution(null);
+        afterCommit(before != null ? before : StudentStatsContribution.of(student), null);
+    }
+
+    private void afterCommit(StudentStatsContribution before, StudentStatsContribution after) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            projection.getObject().apply(before, after);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                projection.getObject().apply(before, after);
+            }
+        });
+    }
+}
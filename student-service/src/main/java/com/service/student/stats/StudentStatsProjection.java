@@ -0,0 +1,244 @@
+package com.service.student.stats;
+
+import com.service.student.enums.EnrollmentStatus;
+import com.service.student.repository.StudentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory projection of the student statistics.
+ * <p>
+ * Writes made through JPA update it incrementally (see {@link StudentStatsListener}), so the
+ * stats endpoints read counters instead of aggregating the table. Set-based writes that bypass
+ * the entity lifecycle call {@link #reconcile()}, and a scheduled reconcile recomputes
+ * everything from the database to correct any drift, including writes made by other
+ * instances of the service.
+ */
+@Slf4j
+@Component
+public class StudentStatsProjection {
+
+    private final StudentRepository studentRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean scheduledReconcileEnabled;
+
+    private final AtomicLong lastDrift = new AtomicLong();
+
+    // All counters below are guarded by "this"
+    private boolean loaded;
+    private long total;
+    private long international;
+    private final Map<EnrollmentStatus, Long> byStatus = new EnumMap<>(EnrollmentStatus.class);
+    // Only ACTIVE students count towards the groupings and sums below, as in the original queries
+    private final Map<UUID, Long> activeBySchool = new HashMap<>();
+    private final Map<String, Long> activeByProgram = new HashMap<>();
+    private final Map<String, Long> activeByLevel = new HashMap<>();
+    private BigDecimal activeGpaSum = BigDecimal.ZERO;
+    private long activeGpaCount;
+    private long activeCompletedCredits;
+
+    public StudentStatsProjection(StudentRepository studentRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${student.stats.reconcile.enabled:true}") boolean scheduledReconcileEnabled) {
+        this.studentRepository = studentRepository;
+        this.meterRegistry = meterRegistry;
+        this.scheduledReconcileEnabled = scheduledReconcileEnabled;
+
+        meterRegistry.gauge("student.stats.drift", lastDrift);
+    }
+
+    /* =======================
+       INCREMENTAL UPDATES
+       ======================= */
+
+    /**
+     * Applies one committed write: {@code before} is null for an insert, {@code after} for a delete.
+     */
+    public synchronized void apply(StudentStatsContribution before, StudentStatsContribution after) {
+        if (!loaded) {
+            // Nothing to correct yet, the first read loads the full state
+            return;
+        }
+        if (before != null) add(before, -1);
+        if (after != null) add(after, 1);
+    }
+
+    private void add(StudentStatsContribution c, int sign) {
+        total += sign;
+        if (c.international()) international += sign;
+        if (c.status() != null) merge(byStatus, c.status(), sign);
+
+        if (c.isActive()) {
+            merge(activeBySchool, c.schoolId(), sign);
+            merge(activeByProgram, c.program(), sign);
+            merge(activeByLevel, c.academicLevel(), sign);
+            if (c.gpa() != null) {
+                activeGpaSum = sign > 0 ? activeGpaSum.add(c.gpa()) : activeGpaSum.subtract(c.gpa());
+                activeGpaCount += sign;
+            }
+            activeCompletedCredits += (long) sign * c.completedCredits();
+        }
+    }
+
+    private static <K> void merge(Map<K, Long> counts, K key, int sign) {
+        // Groups that drop to zero disappear, like they would from a GROUP BY
+        counts.merge(key, (long) sign, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    /* =======================
+       RECONCILIATION
+       ======================= */
+
+    @Scheduled(initialDelayString = "${student.stats.reconcile.initial-delay:10s}",
+            fixedDelayString = "${student.stats.reconcile.interval:10m}")
+    public void scheduledReconcile() {
+        if (!scheduledReconcileEnabled) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("Student stats reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Recomputes every counter from the database and replaces the in-memory state.
+     */
+    public void reconcile() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        long freshTotal = studentRepository.count();
+        long freshInternational = studentRepository.countByIsInternationalTrue();
+        List<Object[]> statusRows = studentRepository.countStudentsByEnrollmentStatus();
+        List<Object[]> schoolRows = studentRepository.countStudentsBySchool();
+        List<Object[]> programRows = studentRepository.countStudentsByProgram();
+        List<Object[]> levelRows = studentRepository.countStudentsByAcademicLevel();
+        Object[] gpa = studentRepository.sumAndCountActiveGPA().get(0);
+        Integer credits = studentRepository.sumCompletedCredits();
+
+        synchronized (this) {
+            long drift = loaded ? Math.abs(total - freshTotal) : 0;
+            lastDrift.set(drift);
+            if (drift > 0) {
+                log.warn("Student stats projection drifted by {} students, reloaded from database", drift);
+            }
+
+            total = freshTotal;
+            international = freshInternational;
+            byStatus.clear();
+            statusRows.forEach(row -> byStatus.put((EnrollmentStatus) row[0], ((Number) row[1]).longValue()));
+            activeBySchool.clear();
+            schoolRows.forEach(row -> activeBySchool.put((UUID) row[0], ((Number) row[1]).longValue()));
+            activeByProgram.clear();
+            programRows.forEach(row -> activeByProgram.put((String) row[0], ((Number) row[1]).longValue()));
+            activeByLevel.clear();
+            levelRows.forEach(row -> activeByLevel.put((String) row[0], ((Number) row[1]).longValue()));
+            activeGpaSum = gpa[0] == null ? BigDecimal.ZERO : (BigDecimal) gpa[0];
+            activeGpaCount = gpa[1] == null ? 0 : ((Number) gpa[1]).longValue();
+            activeCompletedCredits = credits == null ? 0 : credits;
+            loaded = true;
+        }
+
+        sample.stop(meterRegistry.timer("student.stats.reconcile.duration"));
+    }
+
+    private void ensureLoaded() {
+        boolean needsLoad;
+        synchronized (this) {
+            needsLoad = !loaded;
+        }
+        if (needsLoad) {
+            reconcile();
+        }
+    }
+
+    /* =======================
+       READS
+       ======================= */
+
+    public long getTotal() {
+        ensureLoaded();
+        synchronized (this) {
+            return total;
+        }
+    }
+
+    public long getInternational() {
+        ensureLoaded();
+        synchronized (this) {
+            return international;
+        }
+    }
+
+    public long getByStatus(EnrollmentStatus status) {
+        ensureLoaded();
+        synchronized (this) {
+            return byStatus.getOrDefault(status, 0L);
+        }
+    }
+
+    public List<Object[]> getCountByStatus() {
+        ensureLoaded();
+        synchronized (this) {
+            return toRows(byStatus);
+        }
+    }
+
+    public List<Object[]> getActiveCountBySchool() {
+        ensureLoaded();
+        synchronized (this) {
+            return toRows(activeBySchool);
+        }
+    }
+
+    public List<Object[]> getActiveCountByProgram() {
+        ensureLoaded();
+        synchronized (this) {
+            return toRows(activeByProgram);
+        }
+    }
+
+    public List<Object[]> getActiveCountByLevel() {
+        ensureLoaded();
+        synchronized (this) {
+            return toRows(activeByLevel);
+        }
+    }
+
+    public BigDecimal getActiveAverageGpa() {
+        ensureLoaded();
+        synchronized (this) {
+            return activeGpaCount == 0
+                    ? BigDecimal.ZERO
+                    : activeGpaSum.divide(BigDecimal.valueOf(activeGpaCount), MathContext.DECIMAL64);
+        }
+    }
+
+    public long getActiveCompletedCredits() {
+        ensureLoaded();
+        synchronized (this) {
+            return activeCompletedCredits;
+        }
+    }
+
+    private static <K> List<Object[]> toRows(Map<K, Long> counts) {
+        List<Object[]> rows = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> rows.add(new Object[]{key, count}));
+        return rows;
+    }
+}
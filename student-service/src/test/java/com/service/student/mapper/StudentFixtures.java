@@ -0,0 +1,156 @@
+package com.service.student.mapper;
+
+import com.service.student.dto.request.AcademicUpdateDTO;
+import com.service.student.dto.request.CreateStudentDTO;
+import com.service.student.entity.Student;
+import com.service.student.enums.EnrollmentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Students and request DTOs with every mapped field populated, shared by the mapping
+ * equivalence test and the mapping benchmark.
+ */
+final class StudentFixtures {
+
+    private StudentFixtures() {
+    }
+
+    static Student fullStudent() {
+        Student s = new Student();
+        s.setId(UUID.fromString("7d1c4f3e-51a2-4c55-9d8e-2f7f3a0b9c11"));
+        s.setUserId(UUID.fromString("0b6a1d2c-3e4f-4a5b-8c6d-7e8f9a0b1c2d"));
+        s.setStudentCode("2023-STU-00042");
+        s.setFirstName("Amina");
+        s.setLastName("Benali");
+        s.setFullName("Amina Benali");
+        s.setDateOfBirth(LocalDate.of(2002, 5, 14));
+        s.setGender("FEMALE");
+        s.setNationality("Tunisian");
+        s.setCitizenship("Tunisia");
+        s.setIdCardNumber("09876543");
+        s.setPassportNumber("P1234567");
+        s.setAddress("12 Rue de Marseille");
+        s.setCity("Tunis");
+        s.setState("Tunis");
+        s.setCountry("Tunisia");
+        s.setPostalCode("1000");
+        s.setPhoneNumber("+21620000000");
+        s.setEmergencyPhone("+21620000001");
+        s.setPersonalEmail("amina.benali@example.com");
+        s.setSchoolId(UUID.fromString("5f0e9d8c-7b6a-4958-8473-62514f3e2d1c"));
+        s.setProgram("Software Engineering");
+        s.setMajor("Computer Science");
+        s.setMinor("Mathematics");
+        s.setEnrollmentYear(2023);
+        s.setExpectedGraduationYear(2026);
+        s.setEnrollmentStatus(EnrollmentStatus.ACTIVE);
+        s.setAcademicLevel("JUNIOR");
+        s.setGpa(new BigDecimal("3.75"));
+        s.setTotalCredits(120);
+        s.setCompletedCredits(64);
+        s.setCommunityId(UUID.fromString("a1b2c3d4-e5f6-4a7b-8c9d-0e1f2a3b4c5d"));
+        s.setClubId(UUID.fromString("b2c3d4e5-f6a7-4b8c-9d0e-1f2a3b4c5d6e"));
+        s.setAdvisorId(UUID.fromString("c3d4e5f6-a7b8-4c9d-8e1f-2a3b4c5d6e7f"));
+        s.setProfilePicture("https://cdn.example.com/p/amina.png");
+        s.setResumeUrl("https://cdn.example.com/cv/amina.pdf");
+        s.setLinkedinUrl("https://linkedin.com/in/amina");
+        s.setGithubUrl("https://github.com/amina");
+        s.setPortfolioUrl("https://amina.dev");
+        s.setIsInternational(true);
+        s.setVisaStatus("STUDENT");
+        s.setFinancialAidStatus("GRANTED");
+        s.setScholarshipName("Excellence");
+        s.setDisabilities("None");
+        s.setSpecialNeeds("None");
+        s.setMedicalConditions("None");
+        s.setEmergencyContactName("Karim Benali");
+        s.setEmergencyContactRelationship("Father");
+        s.setEmergencyContactAddress("12 Rue de Marseille, Tunis");
+        s.setEmergencyContactEmail("karim.benali@example.com");
+        s.setIsActive(true);
+        s.setIsGraduated(false);
+        s.setGraduationDate(null);
+        s.setNotes("Class representative");
+        s.setCreatedAt(LocalDateTime.of(2023, 9, 1, 8, 30));
+        s.setUpdatedAt(LocalDateTime.of(2024, 2, 10, 17, 5));
+        s.setCreatedBy(1L);
+        s.setUpdatedBy(2L);
+        s.setUserSyncStatus("SYNCED");
+        s.setAdvisorSyncStatus("PENDING");
+        s.setLastSyncAttempt(LocalDateTime.of(2024, 2, 10, 17, 6));
+        return s;
+    }
+
+    // Freshly constructed entity: only the field initializers are set
+    static Student sparseStudent() {
+        Student s = new Student();
+        s.setId(UUID.fromString("d4e5f6a7-b8c9-4d0e-9f1a-2b3c4d5e6f70"));
+        s.setUserId(UUID.fromString("e5f6a7b8-c9d0-4e1f-8a2b-3c4d5e6f7a81"));
+        s.setFirstName("Yassine");
+        s.setLastName("Trabelsi");
+        return s;
+    }
+
+    static CreateStudentDTO fullCreateRequest() {
+        Student s = fullStudent();
+        CreateStudentDTO dto = new CreateStudentDTO();
+        dto.setUserId(s.getUserId());
+        dto.setStudentCode(s.getStudentCode());
+        dto.setFirstName(s.getFirstName());
+        dto.setLastName(s.getLastName());
+        dto.setDateOfBirth(s.getDateOfBirth());
+        dto.setGender(s.getGender());
+        dto.setNationality(s.getNationality());
+        dto.setCitizenship(s.getCitizenship());
+        dto.setIdCardNumber(s.getIdCardNumber());
+        dto.setPassportNumber(s.getPassportNumber());
+        dto.setAddress(s.getAddress());
+        dto.setCity(s.getCity());
+        dto.setState(s.getState());
+        dto.setCountry(s.getCountry());
+        dto.setPostalCode(s.getPostalCode());
+        dto.setPhoneNumber(s.getPhoneNumber());
+        dto.setEmergencyPhone(s.getEmergencyPhone());
+        dto.setPersonalEmail(s.getPersonalEmail());
+        dto.setSchoolId(s.getSchoolId());
+        dto.setProgram(s.getProgram());
+        dto.setMajor(s.getMajor());
+        dto.setMinor(s.getMinor());
+        dto.setEnrollmentYear(s.getEnrollmentYear());
+        dto.setExpectedGraduationYear(s.getExpectedGraduationYear());
+        dto.setCommunityId(s.getCommunityId());
+        dto.setClubId(s.getClubId());
+        dto.setAdvisorId(s.getAdvisorId());
+        dto.setProfilePicture(s.getProfilePicture());
+        dto.setResumeUrl(s.getResumeUrl());
+        dto.setLinkedinUrl(s.getLinkedinUrl());
+        dto.setGithubUrl(s.getGithubUrl());
+        dto.setPortfolioUrl(s.getPortfolioUrl());
+        dto.setIsInternational(s.getIsInternational());
+        dto.setVisaStatus(s.getVisaStatus());
+        dto.setFinancialAidStatus(s.getFinancialAidStatus());
+        dto.setScholarshipName(s.getScholarshipName());
+        dto.setDisabilities(s.getDisabilities());
+        dto.setSpecialNeeds(s.getSpecialNeeds());
+        dto.setMedicalConditions(s.getMedicalConditions());
+        dto.setEmergencyContactName(s.getEmergencyContactName());
+        dto.setEmergencyContactRelationship(s.getEmergencyContactRelationship());
+        dto.setEmergencyContactAddress(s.getEmergencyContactAddress());
+        dto.setEmergencyContactEmail(s.getEmergencyContactEmail());
+        dto.setNotes(s.getNotes());
+        return dto;
+    }
+
+    static AcademicUpdateDTO partialAcademicUpdate() {
+        AcademicUpdateDTO dto = new AcademicUpdateDTO();
+        dto.setGpa(new BigDecimal("3.90"));
+        dto.setCompletedCredits(70);
+        dto.setMajor("Data Science");
+        // program, minor, totalCredits, academicLevel, expectedGraduationYear left null
+        return dto;
+    }
+}
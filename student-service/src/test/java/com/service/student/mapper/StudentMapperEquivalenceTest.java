@@ -0,0 +1,82 @@
+package com.service.student.mapper;
+
+import com.service.student.dto.request.AcademicUpdateDTO;
+import com.service.student.dto.request.CreateStudentDTO;
+import com.service.student.dto.response.StudentDTO;
+import com.service.student.dto.response.StudentResponseDTO;
+import com.service.student.entity.Student;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The generated {@link StudentMapper} must produce exactly what the former ModelMapper
+ * configuration (strict matching, nulls skipped) produced.
+ */
+class StudentMapperEquivalenceTest {
+
+    private final StudentMapper studentMapper = Mappers.getMapper(StudentMapper.class);
+    private final ModelMapper modelMapper = legacyModelMapper();
+
+    static ModelMapper legacyModelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setSkipNullEnabled(true);
+        return modelMapper;
+    }
+
+    @Test
+    void toDtoMatchesModelMapper() {
+        for (Student student : new Student[]{StudentFixtures.fullStudent(), StudentFixtures.sparseStudent()}) {
+            assertThat(studentMapper.toDto(student))
+                    .usingRecursiveComparison()
+                    .isEqualTo(modelMapper.map(student, StudentDTO.class));
+        }
+    }
+
+    @Test
+    void toResponseMatchesModelMapper() {
+        for (Student student : new Student[]{StudentFixtures.fullStudent(), StudentFixtures.sparseStudent()}) {
+            assertThat(studentMapper.toResponse(student))
+                    .usingRecursiveComparison()
+                    .isEqualTo(modelMapper.map(student, StudentResponseDTO.class));
+        }
+    }
+
+    @Test
+    void toEntityMatchesModelMapper() {
+        CreateStudentDTO full = StudentFixtures.fullCreateRequest();
+        assertThat(studentMapper.toEntity(full))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(full, Student.class));
+
+        // Null request fields must leave the entity defaults in place
+        CreateStudentDTO sparse = new CreateStudentDTO();
+        sparse.setUserId(full.getUserId());
+        Student mapped = studentMapper.toEntity(sparse);
+        assertThat(mapped)
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(sparse, Student.class));
+        assertThat(mapped.getIsInternational()).isFalse();
+        assertThat(mapped.getTotalCredits()).isZero();
+    }
+
+    @Test
+    void updateAcademicInfoMatchesModelMapper() {
+        AcademicUpdateDTO update = StudentFixtures.partialAcademicUpdate();
+
+        Student viaMapStruct = StudentFixtures.fullStudent();
+        studentMapper.updateAcademicInfo(update, viaMapStruct);
+
+        Student viaModelMapper = StudentFixtures.fullStudent();
+        modelMapper.map(update, viaModelMapper);
+
+        assertThat(viaMapStruct).usingRecursiveComparison().isEqualTo(viaModelMapper);
+        assertThat(viaMapStruct.getProgram()).isEqualTo("Software Engineering");
+        assertThat(viaMapStruct.getMajor()).isEqualTo("Data Science");
+    }
+}
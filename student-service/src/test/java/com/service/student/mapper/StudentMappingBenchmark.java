@@ -0,0 +1,75 @@
+package com.service.student.mapper;
+
+import com.service.student.dto.response.StudentDTO;
+import com.service.student.dto.response.StudentResponseDTO;
+import com.service.student.entity.Student;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost per entity of the former ModelMapper mappings versus the generated {@link StudentMapper}.
+ * <p>
+ * Not part of the test run. After {@code mvn test-compile}, run {@link #main(String[])} with the
+ * test classpath (e.g. from the IDE).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private StudentMapper studentMapper;
+    private Student student;
+
+    @Setup
+    public void setUp() {
+        modelMapper = StudentMapperEquivalenceTest.legacyModelMapper();
+        studentMapper = Mappers.getMapper(StudentMapper.class);
+        student = StudentFixtures.fullStudent();
+    }
+
+    @Benchmark
+    public StudentDTO modelMapperToDto() {
+        return modelMapper.map(student, StudentDTO.class);
+    }
+
+    @Benchmark
+    public StudentDTO mapStructToDto() {
+        return studentMapper.toDto(student);
+    }
+
+    @Benchmark
+    public StudentResponseDTO modelMapperToResponse() {
+        return modelMapper.map(student, StudentResponseDTO.class);
+    }
+
+    @Benchmark
+    public StudentResponseDTO mapStructToResponse() {
+        return studentMapper.toResponse(student);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StudentMappingBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
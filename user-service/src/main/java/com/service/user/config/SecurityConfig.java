@@ -38,7 +38,7 @@ public class SecurityConfig {
                         // Public endpoints - authentication endpoints
                         .requestMatchers("/api/auth/**").permitAll()
                         // Inter-service communication endpoints (for microservice-to-microservice calls)
-                        .requestMatchers("/api/users/*/minimal", "/api/users/email/*/minimal").permitAll()
+                        .requestMatchers("/api/users/*/minimal", "/api/users/email/*/minimal", "/api/users/minimal/batch").permitAll()
                         // Actuator endpoints (optional - adjust based on your needs)
                         .requestMatchers("/actuator/health", "/actuator/info").permitAll()
                         // All other endpoints require authentication
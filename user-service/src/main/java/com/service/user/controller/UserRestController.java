@@ -53,12 +53,22 @@ public class UserRestController {
 
     @GetMapping("/{id}/minimal")
     public ResponseEntity<UserMinimalDTO> getUserMinimalById(@PathVariable UUID id) {
-        return ResponseEntity.ok(userService.getUserMinimalById(id));
+        // A 404 lets callers cache the id as unknown, a 500 would be taken for an outage
+        return userService.getUserMinimalById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/minimal/batch")
+    public ResponseEntity<List<UserMinimalDTO>> getUsersMinimalByIds(@RequestBody List<UUID> ids) {
+        return ResponseEntity.ok(userService.getUsersMinimalByIds(ids));
     }
 
     @GetMapping("/email/{email}/minimal")
     public ResponseEntity<UserMinimalDTO> getUserMinimalByEmail(@PathVariable String email) {
-        return ResponseEntity.ok(userService.getUserMinimalByEmail(email));
+        return userService.getUserMinimalByEmail(email)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/search")
@@ -3,6 +3,7 @@ package com.service.user.service;
 import com.service.user.dto.user.*;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface IServiceUser {
@@ -16,8 +17,9 @@ public interface IServiceUser {
     UserResponseDTO getUserResponseById(UUID id);
     List<UserResponseDTO> getAllUsers();
     List<UserMinimalDTO> getAllMinimalUsers();
-    UserMinimalDTO getUserMinimalById(UUID id);
-    UserMinimalDTO getUserMinimalByEmail(String email);
+    Optional<UserMinimalDTO> getUserMinimalById(UUID id);
+    Optional<UserMinimalDTO> getUserMinimalByEmail(String email);
+    List<UserMinimalDTO> getUsersMinimalByIds(List<UUID> ids);
 
     // Search & Filter
     List<UserResponseDTO> searchUsers(String keyword);
@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -279,44 +280,34 @@ public class ServiceUser implements IServiceUser {
     @Override
     public List<UserMinimalDTO> getAllMinimalUsers() {
         return userRepository.findAll().stream()
-                .map(user -> {
-                    UserMinimalDTO dto = new UserMinimalDTO();
-                    dto.setId(user.getId());
-                    dto.setEmail(user.getEmail());
-                    dto.setFirstName(user.getFirstName());
-                    dto.setLastName(user.getLastName());
-                    dto.setFullName(user.getFullName());
-                    dto.setProfilePicture(user.getProfilePicture());
-                    return dto;
-                })
+                .map(this::toMinimalDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public UserMinimalDTO getUserMinimalById(UUID id) {
+    public Optional<UserMinimalDTO> getUserMinimalById(UUID id) {
         log.debug("Fetching minimal user by ID: {}", id);
         
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
-        
-        UserMinimalDTO dto = new UserMinimalDTO();
-        dto.setId(user.getId());
-        dto.setEmail(user.getEmail());
-        dto.setFirstName(user.getFirstName());
-        dto.setLastName(user.getLastName());
-        dto.setFullName(user.getFullName());
-        dto.setProfilePicture(user.getProfilePicture());
-        
-        return dto;
+        return userRepository.findById(id).map(this::toMinimalDTO);
     }
 
     @Override
-    public UserMinimalDTO getUserMinimalByEmail(String email) {
+    public Optional<UserMinimalDTO> getUserMinimalByEmail(String email) {
         log.debug("Fetching minimal user by email: {}", email);
         
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
-        
+        return userRepository.findByEmail(email).map(this::toMinimalDTO);
+    }
+
+    @Override
+    public List<UserMinimalDTO> getUsersMinimalByIds(List<UUID> ids) {
+        log.debug("Fetching minimal users for {} ids", ids.size());
+
+        return userRepository.findAllById(ids).stream()
+                .map(this::toMinimalDTO)
+                .collect(Collectors.toList());
+    }
+
+    private UserMinimalDTO toMinimalDTO(User user) {
         UserMinimalDTO dto = new UserMinimalDTO();
         dto.setId(user.getId());
         dto.setEmail(user.getEmail());
@@ -324,7 +315,6 @@ public class ServiceUser implements IServiceUser {
         dto.setLastName(user.getLastName());
         dto.setFullName(user.getFullName());
         dto.setProfilePicture(user.getProfilePicture());
-        
         return dto;
     }
 